@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -23,7 +24,6 @@ import org.springframework.security.oauth2.core.OAuth2Token;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.authorization.InMemoryOAuth2AuthorizationConsentService;
-import org.springframework.security.oauth2.server.authorization.InMemoryOAuth2AuthorizationService;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsentService;
 import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
 import org.springframework.security.oauth2.server.authorization.authentication.OAuth2ClientAuthenticationToken;
@@ -64,9 +64,30 @@ public class AuthorizationServerConfig {
 	@Value("${security.jwt.duration}")
 	private Integer jwtDurationSeconds;
 
+	@Value("${security.jwt.keys.location}")
+	private String keysLocation;
+
+	@Value("${security.jwt.keys.password}")
+	private String keysPassword;
+
+	@Value("${security.jwt.keys.active-key-id}")
+	private String activeKeyId;
+
+	@Value("${security.jwt.decoder-cache.maximum-size}")
+	private Long jwtDecoderCacheMaximumSize;
+
+	@Value("${security.authorizations.maximum-size}")
+	private Long authorizationsMaximumSize;
+
+	@Value("${security.authorizations.persist}")
+	private boolean persistAuthorizations;
+
 	@Autowired
 	private UserDetailsService userDetailsService;
 
+	@Autowired
+	private ResourceLoader resourceLoader;
+
 	@Bean
 	@Order(2)
 	public SecurityFilterChain asSecurityFilterChain(HttpSecurity http) throws Exception {
@@ -87,7 +108,7 @@ public class AuthorizationServerConfig {
 
 	@Bean
 	public OAuth2AuthorizationService authorizationService() {
-		return new InMemoryOAuth2AuthorizationService();
+		return new CaffeineOAuth2AuthorizationService(authorizationsMaximumSize, Duration.ofSeconds(jwtDurationSeconds), persistAuthorizations);
 	}
 
 	@Bean
@@ -149,7 +170,9 @@ public class AuthorizationServerConfig {
 
 	@Bean
 	public OAuth2TokenCustomizer<JwtEncodingContext> tokenCustomizer() {
+		String keyId = JwkSetLoader.activeKeyId(jwkSet(), activeKeyId);
 		return context -> {
+			context.getJwsHeader().keyId(keyId);
 			OAuth2ClientAuthenticationToken principal = context.getPrincipal();
 			CustomUserAuthorities user = (CustomUserAuthorities) principal.getDetails();
 			List<String> authorities = user.getAuthorities().stream().map(x -> x.getAuthority()).toList();
@@ -158,6 +181,11 @@ public class AuthorizationServerConfig {
 				context.getClaims()
 					.claim("authorities", authorities)
 					.claim("username", user.getUsername());
+				if (user.getUserId() != null) {
+					context.getClaims()
+						.claim("userId", user.getUserId())
+						.claim("name", user.getName());
+				}
 				// @formatter:on
 			}
 		};
@@ -165,16 +193,26 @@ public class AuthorizationServerConfig {
 
 	@Bean
 	public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource) {
-		return OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSource);
+		JwtDecoder jwtDecoder = OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSource);
+		return new CachingJwtDecoder(jwtDecoder, jwtDecoderCacheMaximumSize, Duration.ofSeconds(jwtDurationSeconds));
 	}
 
 	@Bean
 	public JWKSource<SecurityContext> jwkSource() {
-		RSAKey rsaKey = generateRsa();
-		JWKSet jwkSet = new JWKSet(rsaKey);
+		JWKSet jwkSet = jwkSet();
 		return (jwkSelector, securityContext) -> jwkSelector.select(jwkSet);
 	}
 
+	@Bean
+	public JWKSet jwkSet() {
+		if (keysLocation.isBlank()) {
+			return new JWKSet(generateRsa());
+		}
+		JWKSet jwkSet = JwkSetLoader.load(resourceLoader.getResource(keysLocation), keysPassword);
+		JwkSetLoader.activeKeyId(jwkSet, activeKeyId);
+		return jwkSet;
+	}
+
 	private static RSAKey generateRsa() {
 		KeyPair keyPair = generateRsaKey();
 		RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
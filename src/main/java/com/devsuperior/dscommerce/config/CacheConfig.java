@@ -0,0 +1,52 @@
+package com.devsuperior.dscommerce.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	@Value("${cache.products.maximum-size}")
+	private Long productsMaximumSize;
+
+	@Value("${cache.products.ttl}")
+	private Long productsTtl;
+
+	@Value("${cache.users.maximum-size}")
+	private Long usersMaximumSize;
+
+	@Value("${cache.users.ttl}")
+	private Long usersTtl;
+
+	@Bean
+	public CacheManager cacheManager() {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		// @formatter:off
+		cacheManager.registerCustomCache("products", Caffeine.newBuilder()
+			.maximumSize(productsMaximumSize)
+			.expireAfterWrite(Duration.ofSeconds(productsTtl))
+			.recordStats()
+			.build());
+		cacheManager.registerCustomCache("users", Caffeine.newBuilder()
+			.maximumSize(usersMaximumSize)
+			.expireAfterWrite(Duration.ofSeconds(usersTtl))
+			.recordStats()
+			.build());
+		// @formatter:on
+
+		// puts and evictions are applied only after the surrounding transaction commits. A read
+		// that started before a concurrent update can still put the old value after the update's
+		// eviction; the products TTL bounds how long such a stale entry is served.
+		return new TransactionAwareCacheManagerProxy(cacheManager);
+	}
+}
@@ -0,0 +1,93 @@
+package com.devsuperior.dscommerce.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.util.Assert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/*
+ * Keeps tokens already verified by the delegate, keyed by the SHA-256 digest of the token, until
+ * their exp claim (capped by maxTtl). Tokens rejected by the delegate are never cached and a
+ * cached token past its exp goes back to the delegate, so expiry is still enforced.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+	private final JwtDecoder delegate;
+	private final Cache<String, Jwt> jwts;
+
+	public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		this.delegate = delegate;
+		this.jwts = Caffeine.newBuilder().maximumSize(maximumSize).expireAfter(new JwtExpiry(maxTtl)).build();
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		if (token == null) {
+			return delegate.decode(token);
+		}
+		String key = digest(token);
+		Jwt jwt = jwts.getIfPresent(key);
+		if (jwt != null && !isExpired(jwt)) {
+			return jwt;
+		}
+		jwt = delegate.decode(token);
+		if (!isExpired(jwt)) {
+			jwts.put(key, jwt);
+		}
+		return jwt;
+	}
+
+	private static boolean isExpired(Jwt jwt) {
+		return jwt.getExpiresAt() != null && !Instant.now().isBefore(jwt.getExpiresAt());
+	}
+
+	private static String digest(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class JwtExpiry implements Expiry<String, Jwt> {
+
+		private final Duration maxTtl;
+
+		private JwtExpiry(Duration maxTtl) {
+			this.maxTtl = maxTtl;
+		}
+
+		@Override
+		public long expireAfterCreate(String key, Jwt value, long currentTime) {
+			if (value.getExpiresAt() == null) {
+				return maxTtl.toNanos();
+			}
+			long untilExpiry = Math.max(0L, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+			return Math.min(untilExpiry, maxTtl.toNanos());
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Jwt value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Jwt value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
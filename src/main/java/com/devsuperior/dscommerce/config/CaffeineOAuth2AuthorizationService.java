@@ -0,0 +1,183 @@
+package com.devsuperior.dscommerce.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.OAuth2Token;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.endpoint.OidcParameterNames;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationCode;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.util.Assert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+/*
+ * Bounded replacement for InMemoryOAuth2AuthorizationService. Entries expire together with the
+ * last of their tokens and token lookups go through an index instead of scanning every
+ * authorization. With persist disabled nothing is stored, which is enough when only
+ * self-contained JWTs are issued and no introspection or revocation is needed.
+ * Each authorization adds up to TOKENS_PER_AUTHORIZATION entries to the index (state, code,
+ * access, refresh and id token), so the index is sized accordingly.
+ */
+public class CaffeineOAuth2AuthorizationService implements OAuth2AuthorizationService {
+
+	private static final int TOKENS_PER_AUTHORIZATION = 5;
+
+	private final boolean persist;
+	private final Cache<String, OAuth2Authorization> authorizations;
+	private final Cache<String, OAuth2Authorization> tokens;
+
+	public CaffeineOAuth2AuthorizationService(long maximumSize, Duration defaultTtl, boolean persist) {
+		this(maximumSize, defaultTtl, persist, Ticker.systemTicker(), Clock.systemUTC());
+	}
+
+	public CaffeineOAuth2AuthorizationService(long maximumSize, Duration defaultTtl, boolean persist, Ticker ticker, Clock clock) {
+		this.persist = persist;
+		Expiry<String, OAuth2Authorization> expiry = new AuthorizationExpiry(defaultTtl, ticker, clock);
+		this.authorizations = Caffeine.newBuilder().maximumSize(maximumSize).expireAfter(expiry).ticker(ticker).build();
+		this.tokens = Caffeine.newBuilder().maximumSize(maximumSize * TOKENS_PER_AUTHORIZATION).expireAfter(expiry).ticker(ticker).build();
+	}
+
+	@Override
+	public void save(OAuth2Authorization authorization) {
+		Assert.notNull(authorization, "authorization cannot be null");
+		if (!persist) {
+			return;
+		}
+		OAuth2Authorization previous = authorizations.getIfPresent(authorization.getId());
+		if (previous != null) {
+			tokens.invalidateAll(tokenValues(previous));
+		}
+		authorizations.put(authorization.getId(), authorization);
+		for (String token : tokenValues(authorization)) {
+			tokens.put(token, authorization);
+		}
+	}
+
+	@Override
+	public void remove(OAuth2Authorization authorization) {
+		Assert.notNull(authorization, "authorization cannot be null");
+		authorizations.invalidate(authorization.getId());
+		tokens.invalidateAll(tokenValues(authorization));
+	}
+
+	@Override
+	public OAuth2Authorization findById(String id) {
+		Assert.hasText(id, "id cannot be empty");
+		return authorizations.getIfPresent(id);
+	}
+
+	@Override
+	public OAuth2Authorization findByToken(String token, OAuth2TokenType tokenType) {
+		Assert.hasText(token, "token cannot be empty");
+		OAuth2Authorization indexed = tokens.getIfPresent(token);
+		if (indexed == null) {
+			return null;
+		}
+		OAuth2Authorization authorization = authorizations.getIfPresent(indexed.getId());
+		return (authorization != null && hasToken(authorization, token, tokenType)) ? authorization : null;
+	}
+
+	private static boolean hasToken(OAuth2Authorization authorization, String token, OAuth2TokenType tokenType) {
+		if (tokenType == null) {
+			return tokenValues(authorization).contains(token);
+		}
+		if (OAuth2ParameterNames.STATE.equals(tokenType.getValue())) {
+			return token.equals(authorization.getAttribute(OAuth2ParameterNames.STATE));
+		}
+		if (OAuth2ParameterNames.CODE.equals(tokenType.getValue())) {
+			return matches(authorization.getToken(OAuth2AuthorizationCode.class), token);
+		}
+		if (OAuth2TokenType.ACCESS_TOKEN.equals(tokenType)) {
+			return matches(authorization.getToken(OAuth2AccessToken.class), token);
+		}
+		if (OAuth2TokenType.REFRESH_TOKEN.equals(tokenType)) {
+			return matches(authorization.getToken(OAuth2RefreshToken.class), token);
+		}
+		if (OidcParameterNames.ID_TOKEN.equals(tokenType.getValue())) {
+			return matches(authorization.getToken(OidcIdToken.class), token);
+		}
+		return false;
+	}
+
+	private static boolean matches(OAuth2Authorization.Token<?> authorizationToken, String token) {
+		return authorizationToken != null && authorizationToken.getToken().getTokenValue().equals(token);
+	}
+
+	private static List<String> tokenValues(OAuth2Authorization authorization) {
+		List<String> result = new ArrayList<>();
+		String state = authorization.getAttribute(OAuth2ParameterNames.STATE);
+		if (state != null) {
+			result.add(state);
+		}
+		for (OAuth2Authorization.Token<?> token : tokens(authorization)) {
+			result.add(token.getToken().getTokenValue());
+		}
+		return result;
+	}
+
+	private static List<OAuth2Authorization.Token<?>> tokens(OAuth2Authorization authorization) {
+		List<OAuth2Authorization.Token<?>> result = new ArrayList<>();
+		for (Class<? extends OAuth2Token> type : List.of(OAuth2AuthorizationCode.class, OAuth2AccessToken.class,
+				OAuth2RefreshToken.class, OidcIdToken.class)) {
+			OAuth2Authorization.Token<?> token = authorization.getToken(type);
+			if (token != null) {
+				result.add(token);
+			}
+		}
+		return result;
+	}
+
+	private static class AuthorizationExpiry implements Expiry<String, OAuth2Authorization> {
+
+		private final Duration defaultTtl;
+		// wall-clock nanos at ticker time zero, so token expiry instants can be compared with currentTime
+		private final long originNanos;
+
+		private AuthorizationExpiry(Duration defaultTtl, Ticker ticker, Clock clock) {
+			this.defaultTtl = defaultTtl;
+			this.originNanos = epochNanos(clock.instant()) - ticker.read();
+		}
+
+		@Override
+		public long expireAfterCreate(String key, OAuth2Authorization value, long currentTime) {
+			Instant expiresAt = null;
+			for (OAuth2Authorization.Token<?> token : tokens(value)) {
+				Instant tokenExpiresAt = token.getToken().getExpiresAt();
+				if (tokenExpiresAt != null && (expiresAt == null || tokenExpiresAt.isAfter(expiresAt))) {
+					expiresAt = tokenExpiresAt;
+				}
+			}
+			if (expiresAt == null) {
+				return defaultTtl.toNanos();
+			}
+			return Math.max(0L, epochNanos(expiresAt) - (originNanos + currentTime));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, OAuth2Authorization value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, OAuth2Authorization value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		private static long epochNanos(Instant instant) {
+			return Duration.between(Instant.EPOCH, instant).toNanos();
+		}
+	}
+}
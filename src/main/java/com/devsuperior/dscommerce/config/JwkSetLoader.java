@@ -0,0 +1,52 @@
+package com.devsuperior.dscommerce.config;
+
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.core.io.Resource;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+
+/*
+ * Reads the signing keys from a JWK Set JSON file (*.json) or a PKCS12 keystore (any other
+ * extension, key ids taken from the aliases). Retired keys may be kept as public-only entries so
+ * tokens signed with them still verify; the active key must carry its private part.
+ */
+public class JwkSetLoader {
+
+	private JwkSetLoader() {
+	}
+
+	public static JWKSet load(Resource resource, String password) {
+		try (InputStream in = resource.getInputStream()) {
+			String filename = resource.getFilename();
+			if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json")) {
+				return JWKSet.load(in);
+			}
+			char[] secret = password.toCharArray();
+			KeyStore keyStore = KeyStore.getInstance("PKCS12");
+			keyStore.load(in, secret);
+			return JWKSet.load(keyStore, name -> secret);
+		}
+		catch (Exception e) {
+			throw new IllegalStateException("Could not load signing keys from " + resource.getDescription(), e);
+		}
+	}
+
+	public static String activeKeyId(JWKSet jwkSet, String keyId) {
+		List<JWK> privateKeys = jwkSet.getKeys().stream().filter(JWK::isPrivate).toList();
+		if (keyId == null || keyId.isBlank()) {
+			if (privateKeys.isEmpty()) {
+				throw new IllegalStateException("No private signing key found");
+			}
+			return privateKeys.get(0).getKeyID();
+		}
+		if (privateKeys.stream().noneMatch(x -> keyId.equals(x.getKeyID()))) {
+			throw new IllegalStateException("No private signing key found with id " + keyId);
+		}
+		return keyId;
+	}
+}
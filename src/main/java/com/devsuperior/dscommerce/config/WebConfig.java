@@ -0,0 +1,20 @@
+package com.devsuperior.dscommerce.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.devsuperior.dscommerce.controllers.interceptors.CatalogETagInterceptor;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+	@Autowired
+	private CatalogETagInterceptor catalogETagInterceptor;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(catalogETagInterceptor).addPathPatterns("/products", "/products/**");
+	}
+}
@@ -0,0 +1,28 @@
+package com.devsuperior.dscommerce.controllers;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.devsuperior.dscommerce.dto.CacheStatsDTO;
+import com.devsuperior.dscommerce.services.CacheService;
+
+@RestController
+@RequestMapping(value = "/caches")
+public class CacheController {
+
+    @Autowired
+    private CacheService service;
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping
+    public ResponseEntity<List<CacheStatsDTO>> findAllStats() {
+        List<CacheStatsDTO> list = service.findAllStats();
+        return ResponseEntity.ok(list);
+    }
+}
@@ -1,26 +1,83 @@
 package com.devsuperior.dscommerce.controllers;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.devsuperior.dscommerce.dto.CategoryDTO;
+import com.devsuperior.dscommerce.services.CatalogVersion;
 import com.devsuperior.dscommerce.services.CategoryService;
+import com.devsuperior.dscommerce.services.CategorySnapshot;
 
 @RestController
 @RequestMapping(value = "/categories")
 public class CategoryController {
 
+    private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+
     @Autowired
     private CategoryService service;
 
-    @GetMapping
-    public ResponseEntity<List<CategoryDTO>> findAll() {
-        List<CategoryDTO> list = service.findAll();
-        return ResponseEntity.ok(list);
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    // the ETag is taken from the snapshot version so it always matches the body; If-None-Match is checked by Spring
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> findAll(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, defaultValue = "") String acceptEncoding) {
+        CategorySnapshot snapshot = service.findSnapshot();
+        String tag = catalogVersion.getTag(snapshot.getVersion());
+        if (acceptsGzip(acceptEncoding)) {
+            return ResponseEntity.ok()
+                    .contentType(JSON_UTF8)
+                    .eTag(tag + "-gz")
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(snapshot.getGzip());
+        }
+        return ResponseEntity.ok()
+                .contentType(JSON_UTF8)
+                .eTag(tag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .body(snapshot.getJson());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        Double gzip = null;
+        Double any = null;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            double quality = quality(parts);
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzip = quality;
+            }
+            else if (name.equals("*")) {
+                any = quality;
+            }
+        }
+        Double result = (gzip != null) ? gzip : any;
+        return result != null && result > 0.0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                }
+                catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            }
+        }
+        return 1.0;
     }
 }
@@ -6,14 +6,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusBulkDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusBulkResultDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingDTO;
+import com.devsuperior.dscommerce.dto.PaymentDTO;
+import com.devsuperior.dscommerce.services.OrderIdempotencyStore;
+import com.devsuperior.dscommerce.services.OrderIngestionQueue;
 import com.devsuperior.dscommerce.services.OrderService;
 
 import jakarta.validation.Valid;
@@ -25,8 +35,14 @@ public class OrderController {
     @Autowired
     private OrderService service;
 
+    @Autowired
+    private OrderIngestionQueue ingestionQueue;
+
+    @Autowired
+    private OrderIdempotencyStore idempotencyStore;
+
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CLIENT')")
-    @GetMapping(value = "/{id}")
+    @GetMapping(value = "/{id:[0-9]+}")
     public ResponseEntity<OrderDTO> findById(@PathVariable Long id) {
         OrderDTO dto = service.findById(id);
         return ResponseEntity.ok(dto);
@@ -34,10 +50,77 @@ public class OrderController {
     
     @PreAuthorize("hasRole('ROLE_CLIENT')")
     @PostMapping
-    public ResponseEntity<OrderDTO> insert(@Valid @RequestBody OrderDTO dto) {
-        dto = service.insert(dto);
+    public ResponseEntity<?> insert(
+            @RequestHeader(name = "Prefer", required = false) String prefer,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody OrderDTO dto) {
+        if (prefersRespondAsync(prefer)) {
+            return insertAsync(idempotencyKey, dto);
+        }
+        if (idempotencyKey == null) {
+            dto = service.insert(dto);
+        }
+        else {
+            OrderDTO request = dto;
+            dto = idempotencyStore.execute(idempotencyKey, request, () -> service.insert(request));
+        }
         URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
                 .buildAndExpand(dto.getId()).toUri();
         return ResponseEntity.created(uri).body(dto);
     } 
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PatchMapping(value = "/{id:[0-9]+}/status")
+    public ResponseEntity<OrderDTO> updateStatus(@PathVariable Long id, @Valid @RequestBody OrderStatusDTO dto) {
+        OrderDTO result = service.updateStatus(id, dto);
+        return ResponseEntity.ok(result);
+    }
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PutMapping(value = "/{id:[0-9]+}/payment")
+    public ResponseEntity<PaymentDTO> registerPayment(@PathVariable Long id) {
+        PaymentDTO dto = service.registerPayment(id);
+        return ResponseEntity.ok(dto);
+    }
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PatchMapping(value = "/status")
+    public ResponseEntity<OrderStatusBulkResultDTO> updateStatus(@Valid @RequestBody OrderStatusBulkDTO dto) {
+        OrderStatusBulkResultDTO result = service.updateStatus(dto);
+        return ResponseEntity.ok(result);
+    }
+
+    @PreAuthorize("hasRole('ROLE_CLIENT')")
+    @GetMapping(value = "/{trackingId:[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}}")
+    public ResponseEntity<OrderTrackingDTO> findTracking(@PathVariable String trackingId) {
+        OrderTrackingDTO dto = ingestionQueue.findTracking(trackingId);
+        return ResponseEntity.ok(dto);
+    }
+
+    private ResponseEntity<OrderTrackingDTO> insertAsync(String idempotencyKey, OrderDTO dto) {
+        OrderTrackingDTO tracking;
+        if (idempotencyKey == null) {
+            tracking = ingestionQueue.submit(dto);
+        }
+        else {
+            tracking = idempotencyStore.executeAsync(idempotencyKey, dto, () -> ingestionQueue.submit(dto));
+        }
+        URI uri = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+                .buildAndExpand(tracking.getTrackingId()).toUri();
+        return ResponseEntity.accepted().location(uri).body(tracking);
+    }
+
+    // Prefer carries a comma separated list of preferences (RFC 7240), e.g. "respond-async, wait=5"
+    private static boolean prefersRespondAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            String token = preference.split("[;=]", 2)[0].trim();
+            if (token.equalsIgnoreCase("respond-async")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
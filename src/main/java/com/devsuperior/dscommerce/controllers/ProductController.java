@@ -1,10 +1,12 @@
 package com.devsuperior.dscommerce.controllers;
 
 import java.net.URI;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,8 +20,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.devsuperior.dscommerce.dto.CursorPageDTO;
 import com.devsuperior.dscommerce.dto.ProductDTO;
+import com.devsuperior.dscommerce.dto.ProductFacetsDTO;
 import com.devsuperior.dscommerce.dto.ProductMinDTO;
+import com.devsuperior.dscommerce.dto.ProductSuggestionDTO;
 import com.devsuperior.dscommerce.services.ProductService;
 
 import jakarta.validation.Valid;
@@ -40,8 +45,59 @@ public class ProductController {
     @GetMapping
     public ResponseEntity<Page<ProductMinDTO>> findAll(
             @RequestParam(name = "name", defaultValue = "") String name,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "minPrice", required = false) Double minPrice,
+            @RequestParam(name = "maxPrice", required = false) Double maxPrice,
             Pageable pageable) {
-        Page<ProductMinDTO> dto = service.findAll(name, pageable);
+        Page<ProductMinDTO> dto = service.findAll(name, categoryId, minPrice, maxPrice, pageable);
+        return ResponseEntity.ok(dto);
+    }
+
+    @GetMapping(value = "/facets")
+    public ResponseEntity<ProductFacetsDTO> findFacets(
+            @RequestParam(name = "name", defaultValue = "") String name,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "minPrice", required = false) Double minPrice,
+            @RequestParam(name = "maxPrice", required = false) Double maxPrice,
+            @RequestParam(name = "priceBucketWidth", required = false) Double priceBucketWidth) {
+        ProductFacetsDTO dto = service.findFacets(name, categoryId, minPrice, maxPrice, priceBucketWidth);
+        return ResponseEntity.ok(dto);
+    }
+
+    @GetMapping(value = "/suggest")
+    public ResponseEntity<List<ProductSuggestionDTO>> findSuggestions(
+            @RequestParam(name = "prefix", defaultValue = "") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") Integer limit) {
+        List<ProductSuggestionDTO> list = service.findSuggestions(prefix, limit);
+        return ResponseEntity.ok(list);
+    }
+
+    @GetMapping(params = { "ids", "!cursor" })
+    public ResponseEntity<List<ProductDTO>> findAllByIds(@RequestParam(name = "ids") List<Long> ids) {
+        List<ProductDTO> list = service.findAllByIds(ids);
+        return ResponseEntity.ok(list);
+    }
+
+    @GetMapping(params = { "withTotal=false", "!cursor", "!ids" })
+    public ResponseEntity<Slice<ProductMinDTO>> findAllSlice(
+            @RequestParam(name = "name", defaultValue = "") String name,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "minPrice", required = false) Double minPrice,
+            @RequestParam(name = "maxPrice", required = false) Double maxPrice,
+            Pageable pageable) {
+        Slice<ProductMinDTO> dto = service.findAllSlice(name, categoryId, minPrice, maxPrice, pageable);
+        return ResponseEntity.ok(dto);
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageDTO<ProductMinDTO>> findAllByCursor(
+            @RequestParam(name = "name", defaultValue = "") String name,
+            @RequestParam(name = "categoryId", required = false) Long categoryId,
+            @RequestParam(name = "minPrice", required = false) Double minPrice,
+            @RequestParam(name = "maxPrice", required = false) Double maxPrice,
+            @RequestParam(name = "cursor") String cursor,
+            Pageable pageable) {
+        CursorPageDTO<ProductMinDTO> dto = service.findAllByCursor(name, categoryId, minPrice, maxPrice, cursor, pageable);
         return ResponseEntity.ok(dto);
     }
 
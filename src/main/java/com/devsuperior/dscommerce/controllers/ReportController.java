@@ -0,0 +1,53 @@
+package com.devsuperior.dscommerce.controllers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.devsuperior.dscommerce.dto.CategorySalesDTO;
+import com.devsuperior.dscommerce.dto.DailySalesDTO;
+import com.devsuperior.dscommerce.dto.ProductSalesDTO;
+import com.devsuperior.dscommerce.services.SalesReportService;
+
+@RestController
+@RequestMapping(value = "/reports/sales")
+public class ReportController {
+
+    @Autowired
+    private SalesReportService service;
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(value = "/products")
+    public ResponseEntity<List<ProductSalesDTO>> findByProduct(
+            @RequestParam(name = "start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(name = "end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        List<ProductSalesDTO> list = service.findByProduct(start, end);
+        return ResponseEntity.ok(list);
+    }
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(value = "/categories")
+    public ResponseEntity<List<CategorySalesDTO>> findByCategory(
+            @RequestParam(name = "start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(name = "end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        List<CategorySalesDTO> list = service.findByCategory(start, end);
+        return ResponseEntity.ok(list);
+    }
+
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping(value = "/days")
+    public ResponseEntity<List<DailySalesDTO>> findByDay(
+            @RequestParam(name = "start") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(name = "end") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        List<DailySalesDTO> list = service.findByDay(start, end);
+        return ResponseEntity.ok(list);
+    }
+}
@@ -1,13 +1,18 @@
 package com.devsuperior.dscommerce.controllers;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.devsuperior.dscommerce.dto.CursorPageDTO;
+import com.devsuperior.dscommerce.dto.OrderSummaryDTO;
 import com.devsuperior.dscommerce.dto.UserDTO;
+import com.devsuperior.dscommerce.services.OrderService;
 import com.devsuperior.dscommerce.services.UserService;
 
 @RestController
@@ -17,10 +22,22 @@ public class UserController {
     @Autowired
     private UserService service;
 
+    @Autowired
+    private OrderService orderService;
+
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CLIENT')")
     @GetMapping(value = "/me")
     public ResponseEntity<UserDTO> getMe() {
     	UserDTO dto = service.getMe();
         return ResponseEntity.ok(dto);
     }
+
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_CLIENT')")
+    @GetMapping(value = "/me/orders")
+    public ResponseEntity<CursorPageDTO<OrderSummaryDTO>> findMyOrders(
+            @RequestParam(name = "cursor", defaultValue = "") String cursor,
+            Pageable pageable) {
+        CursorPageDTO<OrderSummaryDTO> dto = orderService.findMyOrders(cursor, pageable);
+        return ResponseEntity.ok(dto);
+    }
 }
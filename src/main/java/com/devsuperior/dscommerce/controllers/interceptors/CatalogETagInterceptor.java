@@ -0,0 +1,29 @@
+package com.devsuperior.dscommerce.controllers.interceptors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.devsuperior.dscommerce.services.CatalogVersion;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+	@Autowired
+	private CatalogVersion catalogVersion;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!HttpMethod.GET.matches(request.getMethod())) {
+			return true;
+		}
+		// read the version before any data so a concurrent write can only make the tag stale, never the body
+		String etag = "\"" + catalogVersion.getTag() + "\"";
+		return !new ServletWebRequest(request, response).checkNotModified(etag);
+	}
+}
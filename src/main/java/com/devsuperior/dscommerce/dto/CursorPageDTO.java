@@ -0,0 +1,22 @@
+package com.devsuperior.dscommerce.dto;
+
+import java.util.List;
+
+public class CursorPageDTO<T> {
+
+	private List<T> content;
+	private String next;
+
+	public CursorPageDTO(List<T> content, String next) {
+		this.content = content;
+		this.next = next;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public String getNext() {
+		return next;
+	}
+}
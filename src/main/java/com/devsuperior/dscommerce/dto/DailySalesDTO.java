@@ -0,0 +1,29 @@
+package com.devsuperior.dscommerce.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class DailySalesDTO {
+
+    private LocalDate date;
+    private Long quantity;
+    private BigDecimal revenue;
+
+    public DailySalesDTO(LocalDate date, Long quantity, BigDecimal revenue) {
+        this.date = date;
+        this.quantity = quantity;
+        this.revenue = revenue;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
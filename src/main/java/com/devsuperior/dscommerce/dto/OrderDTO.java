@@ -1,5 +1,6 @@
 package com.devsuperior.dscommerce.dto;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -7,6 +8,7 @@ import java.util.List;
 import com.devsuperior.dscommerce.entities.Order;
 import com.devsuperior.dscommerce.entities.OrderItem;
 import com.devsuperior.dscommerce.entities.OrderStatus;
+import com.fasterxml.jackson.annotation.JsonCreator;
 
 import jakarta.validation.constraints.NotEmpty;
 
@@ -19,10 +21,15 @@ public class OrderDTO {
 	private ClientDTO client;
 	
 	private PaymentDTO payment;
+
+	private BigDecimal total;
+
+	private Integer version;
 	
 	@NotEmpty(message = "Deve ter pelo menos um item")
 	private List<OrderItemDTO> items = new ArrayList<>();
 
+	@JsonCreator
 	public OrderDTO(Long id, Instant moment, OrderStatus status, ClientDTO client, PaymentDTO payment) {
 		this.id = id;
 		this.moment = moment;
@@ -32,11 +39,17 @@ public class OrderDTO {
 	}
 	
 	public OrderDTO(Order entity) {
+		this(entity, new ClientDTO(entity.getClient()));
+	}
+
+	public OrderDTO(Order entity, ClientDTO client) {
 		this.id = entity.getId();
 		this.moment = entity.getMoment();
 		this.status = entity.getStatus();
-		this.client = new ClientDTO(entity.getClient());
+		this.client = client;
 		this.payment = (entity.getPayment() == null) ? null : new PaymentDTO(entity.getPayment());
+		this.total = entity.getTotal();
+		this.version = entity.getVersion();
 		for (OrderItem item : entity.getItems()) {
 			OrderItemDTO itemDto = new OrderItemDTO(item);
 			items.add(itemDto);
@@ -67,11 +80,11 @@ public class OrderDTO {
 		return items;
 	}
 	
-	public Double getTotal() {
-		double sum = 0.0;
-		for (OrderItemDTO item : items) {
-			sum += item.getSubTotal();
-		}
-		return sum;
+	public BigDecimal getTotal() {
+		return total;
+	}
+
+	public Integer getVersion() {
+		return version;
 	}
 }
@@ -0,0 +1,33 @@
+package com.devsuperior.dscommerce.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.devsuperior.dscommerce.entities.OrderStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class OrderStatusBulkDTO {
+
+	@NotEmpty(message = "Deve ter pelo menos um pedido")
+	@Size(max = 10000, message = "Máximo de 10000 pedidos por requisição")
+	private List<Long> ids = new ArrayList<>();
+
+	@NotNull(message = "Campo requerido")
+	private OrderStatus status;
+
+	public OrderStatusBulkDTO(List<Long> ids, OrderStatus status) {
+		this.ids = ids;
+		this.status = status;
+	}
+
+	public List<Long> getIds() {
+		return ids;
+	}
+
+	public OrderStatus getStatus() {
+		return status;
+	}
+}
@@ -0,0 +1,28 @@
+package com.devsuperior.dscommerce.dto;
+
+import com.devsuperior.dscommerce.entities.OrderStatus;
+
+public class OrderStatusBulkResultDTO {
+
+	private OrderStatus status;
+	private Integer requested;
+	private Integer updated;
+
+	public OrderStatusBulkResultDTO(OrderStatus status, Integer requested, Integer updated) {
+		this.status = status;
+		this.requested = requested;
+		this.updated = updated;
+	}
+
+	public OrderStatus getStatus() {
+		return status;
+	}
+
+	public Integer getRequested() {
+		return requested;
+	}
+
+	public Integer getUpdated() {
+		return updated;
+	}
+}
@@ -0,0 +1,26 @@
+package com.devsuperior.dscommerce.dto;
+
+import com.devsuperior.dscommerce.entities.OrderStatus;
+
+import jakarta.validation.constraints.NotNull;
+
+public class OrderStatusDTO {
+
+	@NotNull(message = "Campo requerido")
+	private OrderStatus status;
+
+	private Integer version;
+
+	public OrderStatusDTO(OrderStatus status, Integer version) {
+		this.status = status;
+		this.version = version;
+	}
+
+	public OrderStatus getStatus() {
+		return status;
+	}
+
+	public Integer getVersion() {
+		return version;
+	}
+}
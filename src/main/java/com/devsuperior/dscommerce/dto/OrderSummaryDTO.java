@@ -0,0 +1,43 @@
+package com.devsuperior.dscommerce.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.devsuperior.dscommerce.entities.OrderStatus;
+
+public class OrderSummaryDTO {
+
+	private Long id;
+	private Instant moment;
+	private OrderStatus status;
+	private BigDecimal total;
+	private Integer itemCount;
+
+	public OrderSummaryDTO(Long id, Instant moment, OrderStatus status, BigDecimal total, Integer itemCount) {
+		this.id = id;
+		this.moment = moment;
+		this.status = status;
+		this.total = total;
+		this.itemCount = itemCount;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Instant getMoment() {
+		return moment;
+	}
+
+	public OrderStatus getStatus() {
+		return status;
+	}
+
+	public BigDecimal getTotal() {
+		return total;
+	}
+
+	public Integer getItemCount() {
+		return itemCount;
+	}
+}
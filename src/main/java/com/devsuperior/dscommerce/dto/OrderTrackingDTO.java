@@ -0,0 +1,32 @@
+package com.devsuperior.dscommerce.dto;
+
+public class OrderTrackingDTO {
+
+	private String trackingId;
+	private OrderTrackingStatus status;
+	private Long orderId;
+	private String message;
+
+	public OrderTrackingDTO(String trackingId, OrderTrackingStatus status, Long orderId, String message) {
+		this.trackingId = trackingId;
+		this.status = status;
+		this.orderId = orderId;
+		this.message = message;
+	}
+
+	public String getTrackingId() {
+		return trackingId;
+	}
+
+	public OrderTrackingStatus getStatus() {
+		return status;
+	}
+
+	public Long getOrderId() {
+		return orderId;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+}
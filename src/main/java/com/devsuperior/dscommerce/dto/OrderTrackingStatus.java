@@ -0,0 +1,6 @@
+package com.devsuperior.dscommerce.dto;
+
+public enum OrderTrackingStatus {
+
+	PENDING, ACCEPTED, REJECTED;
+}
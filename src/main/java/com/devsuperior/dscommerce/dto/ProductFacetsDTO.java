@@ -0,0 +1,23 @@
+package com.devsuperior.dscommerce.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductFacetsDTO {
+
+    private List<CategoryFacetDTO> categories = new ArrayList<>();
+    private List<PriceFacetDTO> prices = new ArrayList<>();
+
+    public ProductFacetsDTO(List<CategoryFacetDTO> categories, List<PriceFacetDTO> prices) {
+        this.categories.addAll(categories);
+        this.prices.addAll(prices);
+    }
+
+    public List<CategoryFacetDTO> getCategories() {
+        return categories;
+    }
+
+    public List<PriceFacetDTO> getPrices() {
+        return prices;
+    }
+}
@@ -0,0 +1,40 @@
+package com.devsuperior.dscommerce.dto;
+
+import java.math.BigDecimal;
+
+public class ProductSalesDTO {
+
+    private Long id;
+    private String name;
+    private Long quantity;
+    private BigDecimal revenue;
+    private Long orderCount;
+
+    public ProductSalesDTO(Long id, String name, Long quantity, BigDecimal revenue, Long orderCount) {
+        this.id = id;
+        this.name = name;
+        this.quantity = quantity;
+        this.revenue = revenue;
+        this.orderCount = orderCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Long getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public Long getOrderCount() {
+        return orderCount;
+    }
+}
@@ -2,6 +2,7 @@ package com.devsuperior.dscommerce.entities;
 
 import jakarta.persistence.*;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
@@ -10,17 +11,24 @@ import java.util.Set;
 
 
 @Entity
-@Table(name = "tb_order")
+@Table(name = "tb_order", indexes = @Index(name = "idx_order_client_moment", columnList = "client_id, moment, id"))
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq")
+    @SequenceGenerator(name = "order_seq", sequenceName = "tb_order_seq", initialValue = 4, allocationSize = 50)
     private Long id;
 
     @Column(columnDefinition = "TIMESTAMP WITHOUT TIME ZONE")
     private Instant moment;
     private OrderStatus status;
 
+    @Column(precision = 19, scale = 2)
+    private BigDecimal total;
+
+    @Version
+    private Integer version;
+
     @ManyToOne
     @JoinColumn(name = "client_id")
     private User client;
@@ -28,7 +36,7 @@ public class Order {
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
     private Payment payment;
 
-    @OneToMany(mappedBy = "id.order")
+    @OneToMany(mappedBy = "id.order", cascade = CascadeType.PERSIST)
     private Set<OrderItem> items = new HashSet<>();
 
     public Order() {
@@ -66,6 +74,18 @@ public class Order {
         this.status = status;
     }
 
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
     public User getClient() {
         return client;
     }
@@ -3,4 +3,13 @@ package com.devsuperior.dscommerce.entities;
 public enum OrderStatus {
 
     WAITING_PAYMENT, PAID, SHIPPED, DELIVERED, CANCELED;
+
+    public boolean canChangeTo(OrderStatus next) {
+        return switch (this) {
+            case WAITING_PAYMENT -> next == PAID || next == CANCELED;
+            case PAID -> next == SHIPPED || next == CANCELED;
+            case SHIPPED -> next == DELIVERED;
+            case DELIVERED, CANCELED -> false;
+        };
+    }
 }
@@ -0,0 +1,7 @@
+package com.devsuperior.dscommerce.projections;
+
+public interface PriceBucketProjection {
+
+	Long getBucket();
+	Long getProductCount();
+}
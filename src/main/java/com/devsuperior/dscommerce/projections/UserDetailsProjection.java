@@ -2,6 +2,8 @@ package com.devsuperior.dscommerce.projections;
 
 public interface UserDetailsProjection {
 
+	Long getUserId();
+	String getName();
 	String getUsername();
 	String getPassword();
 	Long getRoleId();
@@ -0,0 +1,20 @@
+package com.devsuperior.dscommerce.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.devsuperior.dscommerce.dto.CategorySalesDTO;
+import com.devsuperior.dscommerce.entities.CategorySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface CategorySalesRepository extends JpaRepository<CategorySales, Long> {
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.CategorySalesDTO(c.id, c.name, SUM(obj.quantity), SUM(obj.revenue), SUM(obj.orderCount)) " +
+            "FROM CategorySales obj JOIN obj.category c " +
+            "WHERE obj.saleDate BETWEEN :start AND :end " +
+            "GROUP BY c.id, c.name " +
+            "HAVING SUM(obj.quantity) > 0 " +
+            "ORDER BY SUM(obj.revenue) DESC, c.id")
+    List<CategorySalesDTO> sumByCategory(LocalDate start, LocalDate end);
+}
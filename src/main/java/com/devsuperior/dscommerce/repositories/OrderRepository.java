@@ -1,9 +1,44 @@
 package com.devsuperior.dscommerce.repositories;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import com.devsuperior.dscommerce.dto.OrderSummaryDTO;
 import com.devsuperior.dscommerce.entities.Order;
+import com.devsuperior.dscommerce.entities.OrderStatus;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @Query("SELECT DISTINCT obj FROM Order obj " +
+            "JOIN FETCH obj.client " +
+            "LEFT JOIN FETCH obj.payment " +
+            "LEFT JOIN FETCH obj.items item " +
+            "LEFT JOIN FETCH item.id.product " +
+            "WHERE obj.id = :id")
+    Optional<Order> searchWithItemsById(Long id);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.OrderSummaryDTO(obj.id, obj.moment, obj.status, obj.total, SIZE(obj.items)) " +
+            "FROM Order obj " +
+            "WHERE obj.client.id = :clientId " +
+            "ORDER BY obj.moment DESC, obj.id DESC")
+    List<OrderSummaryDTO> searchSummariesByClient(Long clientId, Pageable pageable);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.OrderSummaryDTO(obj.id, obj.moment, obj.status, obj.total, SIZE(obj.items)) " +
+            "FROM Order obj " +
+            "WHERE obj.client.id = :clientId " +
+            "AND (obj.moment < :lastMoment OR (obj.moment = :lastMoment AND obj.id < :lastId)) " +
+            "ORDER BY obj.moment DESC, obj.id DESC")
+    List<OrderSummaryDTO> searchSummariesByClientBefore(Long clientId, Instant lastMoment, Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Order obj SET obj.status = :status, obj.version = obj.version + 1 " +
+            "WHERE obj.id IN :ids AND obj.status IN :from")
+    int updateStatus(Collection<Long> ids, Collection<OrderStatus> from, OrderStatus status);
 }
@@ -0,0 +1,17 @@
+package com.devsuperior.dscommerce.repositories;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.devsuperior.dscommerce.dto.PaymentDTO;
+import com.devsuperior.dscommerce.entities.Payment;
+
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.PaymentDTO(obj.id, obj.moment) " +
+            "FROM Payment obj " +
+            "WHERE obj.id = :orderId")
+    Optional<PaymentDTO> searchByOrderId(Long orderId);
+}
@@ -1,14 +1,113 @@
 package com.devsuperior.dscommerce.repositories;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.devsuperior.dscommerce.dto.CategoryFacetDTO;
+import com.devsuperior.dscommerce.dto.ProductMinDTO;
 import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.projections.PriceBucketProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
-    @Query("SELECT obj FROM Product obj " +
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<Product> findById(Long id);
+
+    @EntityGraph(attributePaths = "categories")
+    List<Product> findByIdIn(Collection<Long> ids);
+
+    @Query(value = "SELECT new com.devsuperior.dscommerce.dto.ProductMinDTO(obj.id, obj.name, obj.price, obj.imgUrl) " +
+            "FROM Product obj " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%'))",
+            countQuery = "SELECT COUNT(obj) FROM Product obj " +
             "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%'))")
-    Page<Product> searchByName(String name, Pageable pageable);
+    Page<ProductMinDTO> searchByName(String name, Pageable pageable);
+
+    @Query(value = "SELECT new com.devsuperior.dscommerce.dto.ProductMinDTO(obj.id, obj.name, obj.price, obj.imgUrl) " +
+            "FROM Product obj " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%')) " +
+            "AND (:categoryId IS NULL OR obj.id IN (SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId)) " +
+            "AND (:minPrice IS NULL OR obj.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR obj.price <= :maxPrice)",
+            countQuery = "SELECT COUNT(obj) FROM Product obj " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%')) " +
+            "AND (:categoryId IS NULL OR obj.id IN (SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId)) " +
+            "AND (:minPrice IS NULL OR obj.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR obj.price <= :maxPrice)")
+    Page<ProductMinDTO> searchByFilter(String name, Long categoryId, Double minPrice, Double maxPrice, Pageable pageable);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.CategoryFacetDTO(c.id, c.name, COUNT(obj)) " +
+            "FROM Product obj JOIN obj.categories c " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%')) " +
+            "AND (:minPrice IS NULL OR obj.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR obj.price <= :maxPrice) " +
+            "GROUP BY c.id, c.name " +
+            "ORDER BY c.id")
+    List<CategoryFacetDTO> countByCategory(String name, Double minPrice, Double maxPrice);
+
+    @Query(nativeQuery = true, value = """
+            SELECT t.bucket AS bucket, COUNT(*) AS productCount
+            FROM (
+                SELECT CAST(FLOOR(p.price / :width) AS BIGINT) AS bucket
+                FROM tb_product p
+                WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :name, '%'))
+                AND p.price IS NOT NULL
+                AND (CAST(:categoryId AS BIGINT) IS NULL OR p.id IN (
+                    SELECT pc.product_id FROM tb_product_category pc WHERE pc.category_id = CAST(:categoryId AS BIGINT)))
+            ) t
+            GROUP BY t.bucket
+            ORDER BY t.bucket
+            """)
+    List<PriceBucketProjection> countByPriceBucket(String name, Long categoryId, Double width);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.ProductMinDTO(obj.id, obj.name, obj.price, obj.imgUrl) " +
+            "FROM Product obj " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%')) " +
+            "AND (:categoryId IS NULL OR obj.id IN (SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId)) " +
+            "AND (:minPrice IS NULL OR obj.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR obj.price <= :maxPrice)")
+    Slice<ProductMinDTO> searchSliceByFilter(String name, Long categoryId, Double minPrice, Double maxPrice, Pageable pageable);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.ProductMinDTO(obj.id, obj.name, obj.price, obj.imgUrl) " +
+            "FROM Product obj " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%')) " +
+            "AND (:categoryId IS NULL OR obj.id IN (SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId)) " +
+            "AND (:minPrice IS NULL OR obj.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR obj.price <= :maxPrice) " +
+            "AND obj.id > :lastId " +
+            "ORDER BY obj.id")
+    List<ProductMinDTO> searchByFilterAfterId(String name, Long categoryId, Double minPrice, Double maxPrice, Long lastId, Pageable pageable);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.ProductMinDTO(obj.id, obj.name, obj.price, obj.imgUrl) " +
+            "FROM Product obj " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%')) " +
+            "AND (:categoryId IS NULL OR obj.id IN (SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId)) " +
+            "AND (:minPrice IS NULL OR obj.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR obj.price <= :maxPrice) " +
+            "AND (obj.name > :lastName OR (obj.name = :lastName AND obj.id > :lastId)) " +
+            "ORDER BY obj.name, obj.id")
+    List<ProductMinDTO> searchByFilterAfterName(String name, Long categoryId, Double minPrice, Double maxPrice, String lastName, Long lastId, Pageable pageable);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.ProductMinDTO(obj.id, obj.name, obj.price, obj.imgUrl) " +
+            "FROM Product obj " +
+            "WHERE UPPER(obj.name) LIKE UPPER(CONCAT('%', :name, '%')) " +
+            "AND (:categoryId IS NULL OR obj.id IN (SELECT p.id FROM Product p JOIN p.categories c WHERE c.id = :categoryId)) " +
+            "AND (:minPrice IS NULL OR obj.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR obj.price <= :maxPrice) " +
+            "AND ((:lastPrice IS NULL AND (obj.price IS NOT NULL OR obj.id > :lastId)) " +
+            "OR obj.price > :lastPrice OR (obj.price = :lastPrice AND obj.id > :lastId)) " +
+            "ORDER BY obj.price ASC NULLS FIRST, obj.id")
+    List<ProductMinDTO> searchByFilterAfterPrice(String name, Long categoryId, Double minPrice, Double maxPrice, Double lastPrice, Long lastId, Pageable pageable);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.ProductMinDTO(obj.id, obj.name, obj.price, obj.imgUrl) " +
+            "FROM Product obj")
+    List<ProductMinDTO> searchAllMin();
 }
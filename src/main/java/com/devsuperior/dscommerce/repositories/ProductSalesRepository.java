@@ -0,0 +1,29 @@
+package com.devsuperior.dscommerce.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.devsuperior.dscommerce.dto.DailySalesDTO;
+import com.devsuperior.dscommerce.dto.ProductSalesDTO;
+import com.devsuperior.dscommerce.entities.ProductSales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface ProductSalesRepository extends JpaRepository<ProductSales, Long> {
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.ProductSalesDTO(p.id, p.name, SUM(obj.quantity), SUM(obj.revenue), SUM(obj.orderCount)) " +
+            "FROM ProductSales obj JOIN obj.product p " +
+            "WHERE obj.saleDate BETWEEN :start AND :end " +
+            "GROUP BY p.id, p.name " +
+            "HAVING SUM(obj.quantity) > 0 " +
+            "ORDER BY SUM(obj.revenue) DESC, p.id")
+    List<ProductSalesDTO> sumByProduct(LocalDate start, LocalDate end);
+
+    @Query("SELECT new com.devsuperior.dscommerce.dto.DailySalesDTO(obj.saleDate, SUM(obj.quantity), SUM(obj.revenue)) " +
+            "FROM ProductSales obj " +
+            "WHERE obj.saleDate BETWEEN :start AND :end " +
+            "GROUP BY obj.saleDate " +
+            "HAVING SUM(obj.quantity) > 0 " +
+            "ORDER BY obj.saleDate")
+    List<DailySalesDTO> sumByDay(LocalDate start, LocalDate end);
+}
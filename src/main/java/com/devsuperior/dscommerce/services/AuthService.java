@@ -3,8 +3,8 @@ package com.devsuperior.dscommerce.services;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import com.devsuperior.dscommerce.entities.User;
 import com.devsuperior.dscommerce.services.exceptions.ForbiddenException;
+import com.devsuperior.dscommerce.utils.LoggedUser;
 
 @Service
 public class AuthService {
@@ -13,7 +13,7 @@ public class AuthService {
 	private UserService userService;
 	
 	public void validateSelfOrAdmin(Long userId) {
-		User me = userService.authenticated();
+		LoggedUser me = userService.loggedUser();
 		if(me.hasRole("ROLE_ADMIN")) {
 			return;
 		}
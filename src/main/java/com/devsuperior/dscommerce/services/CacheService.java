@@ -0,0 +1,29 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.devsuperior.dscommerce.dto.CacheStatsDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+
+@Service
+public class CacheService {
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	public List<CacheStatsDTO> findAllStats() {
+		List<CacheStatsDTO> result = new ArrayList<>();
+		for (String name : cacheManager.getCacheNames().stream().sorted().toList()) {
+			Object nativeCache = cacheManager.getCache(name).getNativeCache();
+			if (nativeCache instanceof Cache<?, ?> cache) {
+				result.add(new CacheStatsDTO(name, cache.estimatedSize(), cache.stats()));
+			}
+		}
+		return result;
+	}
+}
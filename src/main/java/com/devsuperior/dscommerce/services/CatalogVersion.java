@@ -0,0 +1,30 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dscommerce.utils.TransactionUtil;
+
+@Component
+public class CatalogVersion {
+
+	private final long epoch = System.currentTimeMillis();
+	private final AtomicLong version = new AtomicLong();
+
+	public long getVersion() {
+		return version.get();
+	}
+
+	public String getTag() {
+		return getTag(version.get());
+	}
+
+	public String getTag(long version) {
+		return epoch + "-" + version;
+	}
+
+	public void increment() {
+		TransactionUtil.afterCommit(() -> version.incrementAndGet());
+	}
+}
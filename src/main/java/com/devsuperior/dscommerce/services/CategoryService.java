@@ -1,14 +1,18 @@
 package com.devsuperior.dscommerce.services;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.devsuperior.dscommerce.dto.CategoryDTO;
 import com.devsuperior.dscommerce.entities.Category;
 import com.devsuperior.dscommerce.repositories.CategoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @Service
 public class CategoryService {
@@ -16,9 +20,41 @@ public class CategoryService {
     @Autowired
     private CategoryRepository repository;
 
-    @Transactional(readOnly = true)
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+
     public List<CategoryDTO> findAll() {
+        return findSnapshot().getCategories();
+    }
+
+    public CategorySnapshot findSnapshot() {
+        long version = catalogVersion.getVersion();
+        CategorySnapshot current = snapshot.get();
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
         List<Category> result = repository.findAll();
-        return result.stream().map(x -> new CategoryDTO(x)).toList();
+        List<CategoryDTO> list = result.stream().map(x -> new CategoryDTO(x)).toList();
+        CategorySnapshot next = createSnapshot(version, list);
+        return snapshot.accumulateAndGet(next, (x, y) -> (x != null && x.getVersion() > y.getVersion()) ? x : y);
+    }
+
+    private CategorySnapshot createSnapshot(long version, List<CategoryDTO> list) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(list);
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+                out.write(json);
+            }
+            return new CategorySnapshot(version, list, json, gzip.toByteArray());
+        }
+        catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
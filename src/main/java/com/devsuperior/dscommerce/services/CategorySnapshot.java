@@ -0,0 +1,36 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.List;
+
+import com.devsuperior.dscommerce.dto.CategoryDTO;
+
+public class CategorySnapshot {
+
+	private final long version;
+	private final List<CategoryDTO> categories;
+	private final byte[] json;
+	private final byte[] gzip;
+
+	public CategorySnapshot(long version, List<CategoryDTO> categories, byte[] json, byte[] gzip) {
+		this.version = version;
+		this.categories = List.copyOf(categories);
+		this.json = json;
+		this.gzip = gzip;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public List<CategoryDTO> getCategories() {
+		return categories;
+	}
+
+	public byte[] getJson() {
+		return json;
+	}
+
+	public byte[] getGzip() {
+		return gzip;
+	}
+}
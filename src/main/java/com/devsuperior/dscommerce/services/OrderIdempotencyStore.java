@@ -0,0 +1,139 @@
+package com.devsuperior.dscommerce.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderItemDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingDTO;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
+import com.devsuperior.dscommerce.services.exceptions.ConflictException;
+import com.devsuperior.dscommerce.services.exceptions.InvalidDataException;
+import com.devsuperior.dscommerce.services.exceptions.ServiceUnavailableException;
+import com.devsuperior.dscommerce.utils.CustomUserUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+
+/*
+ * Remembers the OrderDTO (or, for asynchronous submits, the OrderTrackingDTO) produced for
+ * each (client, Idempotency-Key) pair together with a digest of the items that were
+ * requested. Synchronous and asynchronous submits keep separate keys. The first request registers an incomplete
+ * future before inserting, so concurrent duplicates wait on it (up to wait-timeout)
+ * instead of inserting again. Reusing a key with different items is rejected. Failed
+ * attempts are forgotten so the client can retry them.
+ */
+@Component
+public class OrderIdempotencyStore {
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	@Value("${orders.idempotency.ttl:86400}")
+	private Long ttlSeconds;
+
+	@Value("${orders.idempotency.maximum-size:10000}")
+	private Long maximumSize;
+
+	@Value("${orders.idempotency.wait-timeout:30}")
+	private Long waitTimeoutSeconds;
+
+	@Autowired
+	private CustomUserUtil customUserUtil;
+
+	private Cache<String, Entry> results;
+
+	@PostConstruct
+	public void init() {
+		// @formatter:off
+		results = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+			.build();
+		// @formatter:on
+	}
+
+	public OrderDTO execute(String idempotencyKey, OrderDTO request, Supplier<OrderDTO> action) {
+		return execute("sync", idempotencyKey, request, action);
+	}
+
+	public OrderTrackingDTO executeAsync(String idempotencyKey, OrderDTO request, Supplier<OrderTrackingDTO> action) {
+		return execute("async", idempotencyKey, request, action);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T execute(String mode, String idempotencyKey, OrderDTO request, Supplier<T> action) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new BadRequestException("Idempotency-Key inválido");
+		}
+		String key = customUserUtil.getLoggedUsername() + "\0" + mode + "\0" + idempotencyKey;
+		Entry created = new Entry(digest(request), new CompletableFuture<>());
+		Entry existing = results.asMap().putIfAbsent(key, created);
+		if (existing != null) {
+			if (!existing.digest.equals(created.digest)) {
+				InvalidDataException e = new InvalidDataException("Dados inválidos");
+				e.addError("Idempotency-Key", "Chave já utilizada com outro pedido");
+				throw e;
+			}
+			return (T) await(existing.future);
+		}
+		try {
+			T result = action.get();
+			created.future.complete(result);
+			return result;
+		}
+		catch (RuntimeException e) {
+			results.asMap().remove(key, created);
+			created.future.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private Object await(CompletableFuture<Object> future) {
+		try {
+			return future.get(waitTimeoutSeconds, TimeUnit.SECONDS);
+		}
+		catch (TimeoutException e) {
+			throw new ConflictException("Pedido com esta Idempotency-Key ainda em processamento");
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ServiceUnavailableException("Requisição interrompida");
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private static String digest(OrderDTO request) {
+		StringBuilder sb = new StringBuilder();
+		for (OrderItemDTO item : request.getItems()) {
+			sb.append(item.getProductId()).append(':').append(item.getQuantity()).append(';');
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record Entry(String digest, CompletableFuture<Object> future) {
+	}
+}
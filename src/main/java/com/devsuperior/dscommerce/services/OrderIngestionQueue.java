@@ -0,0 +1,163 @@
+package com.devsuperior.dscommerce.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingStatus;
+import com.devsuperior.dscommerce.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscommerce.services.exceptions.ServiceUnavailableException;
+import com.devsuperior.dscommerce.utils.CustomUserUtil;
+import com.devsuperior.dscommerce.utils.LoggedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/*
+ * Bounded in-process queue for orders submitted with "Prefer: respond-async".
+ * A single writer thread drains up to 'batch-size' orders at a time and commits
+ * them in one transaction; if that transaction fails, the orders of the batch
+ * are retried one by one so a single bad order only rejects itself.
+ */
+@Component
+public class OrderIngestionQueue {
+
+	private static final Logger logger = LoggerFactory.getLogger(OrderIngestionQueue.class);
+
+	@Value("${orders.async.queue-capacity:1000}")
+	private Integer queueCapacity;
+
+	@Value("${orders.async.batch-size:100}")
+	private Integer batchSize;
+
+	@Value("${orders.async.tracking-ttl:3600}")
+	private Long trackingTtlSeconds;
+
+	@Value("${orders.async.max-tracked:100000}")
+	private Long maxTracked;
+
+	@Autowired
+	private OrderService orderService;
+
+	@Autowired
+	private CustomUserUtil customUserUtil;
+
+	private BlockingQueue<PendingOrder> queue;
+	private Cache<String, TrackedOrder> tracking;
+	private Thread writer;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void start() {
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+		// @formatter:off
+		tracking = Caffeine.newBuilder()
+			.maximumSize(maxTracked)
+			.expireAfterWrite(Duration.ofSeconds(trackingTtlSeconds))
+			.build();
+		// @formatter:on
+		running = true;
+		writer = new Thread(this::run, "order-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		running = false;
+		writer.join(TimeUnit.SECONDS.toMillis(30));
+	}
+
+	public OrderTrackingDTO submit(OrderDTO dto) {
+		LoggedUser me = customUserUtil.getLoggedUser();
+		PendingOrder pending = new PendingOrder(UUID.randomUUID().toString(), me.getId(), me.getUsername(), dto);
+		OrderTrackingDTO result = new OrderTrackingDTO(pending.getTrackingId(), OrderTrackingStatus.PENDING, null, null);
+		tracking.put(pending.getTrackingId(), new TrackedOrder(me.getUsername(), result));
+		if (!queue.offer(pending)) {
+			tracking.invalidate(pending.getTrackingId());
+			throw new ServiceUnavailableException("Fila de pedidos cheia, tente novamente");
+		}
+		return result;
+	}
+
+	public OrderTrackingDTO findTracking(String trackingId) {
+		TrackedOrder tracked = tracking.getIfPresent(trackingId);
+		if (tracked == null || !tracked.username.equals(customUserUtil.getLoggedUsername())) {
+			throw new ResourceNotFoundException("Recurso não encontrado");
+		}
+		return tracked.status;
+	}
+
+	void writeBatch(List<PendingOrder> batch) {
+		try {
+			List<OrderDTO> result = orderService.insertAll(batch);
+			for (int i = 0; i < batch.size(); i++) {
+				track(batch.get(i), OrderTrackingStatus.ACCEPTED, result.get(i).getId(), null);
+			}
+		}
+		catch (RuntimeException e) {
+			if (batch.size() > 1) {
+				for (PendingOrder pending : batch) {
+					writeBatch(List.of(pending));
+				}
+				return;
+			}
+			track(batch.get(0), OrderTrackingStatus.REJECTED, null, e.getMessage());
+		}
+	}
+
+	private void run() {
+		List<PendingOrder> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingOrder first = queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				writeBatch(batch);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (RuntimeException e) {
+				logger.error("Falha ao gravar lote de pedidos", e);
+			}
+			finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void track(PendingOrder pending, OrderTrackingStatus status, Long orderId, String message) {
+		OrderTrackingDTO dto = new OrderTrackingDTO(pending.getTrackingId(), status, orderId, message);
+		tracking.put(pending.getTrackingId(), new TrackedOrder(pending.getUsername(), dto));
+	}
+
+	private static class TrackedOrder {
+
+		private final String username;
+		private final OrderTrackingDTO status;
+
+		private TrackedOrder(String username, OrderTrackingDTO status) {
+			this.username = username;
+			this.status = status;
+		}
+	}
+}
@@ -1,22 +1,50 @@
 package com.devsuperior.dscommerce.services;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.devsuperior.dscommerce.dto.ClientDTO;
+import com.devsuperior.dscommerce.dto.CursorPageDTO;
 import com.devsuperior.dscommerce.dto.OrderDTO;
 import com.devsuperior.dscommerce.dto.OrderItemDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusBulkDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusBulkResultDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusDTO;
+import com.devsuperior.dscommerce.dto.OrderSummaryDTO;
+import com.devsuperior.dscommerce.dto.PaymentDTO;
 import com.devsuperior.dscommerce.entities.Order;
 import com.devsuperior.dscommerce.entities.OrderItem;
 import com.devsuperior.dscommerce.entities.OrderStatus;
+import com.devsuperior.dscommerce.entities.Payment;
 import com.devsuperior.dscommerce.entities.Product;
 import com.devsuperior.dscommerce.entities.User;
-import com.devsuperior.dscommerce.repositories.OrderItemRepository;
 import com.devsuperior.dscommerce.repositories.OrderRepository;
+import com.devsuperior.dscommerce.repositories.PaymentRepository;
 import com.devsuperior.dscommerce.repositories.ProductRepository;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
+import com.devsuperior.dscommerce.services.exceptions.ConflictException;
+import com.devsuperior.dscommerce.services.exceptions.InvalidDataException;
 import com.devsuperior.dscommerce.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscommerce.utils.CursorUtil;
+import com.devsuperior.dscommerce.utils.LoggedUser;
 
 @Service
 public class OrderService {
@@ -27,43 +55,170 @@ public class OrderService {
     @Autowired
     private ProductRepository productRepository;
     
-    @Autowired
-    private OrderItemRepository orderItemRepository;
-    
     @Autowired
     private UserService userService;
     
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private SalesReportService salesReportService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
     @Transactional(readOnly = true)
     public OrderDTO findById(Long id) {
-        Order order = repository.findById(id).orElseThrow(
+        Order order = repository.searchWithItemsById(id).orElseThrow(
                 () -> new ResourceNotFoundException("Recurso não encontrado"));
         authService.validateSelfOrAdmin(order.getClient().getId());
         return new OrderDTO(order);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderSummaryDTO> findMyOrders(String cursor, Pageable pageable) {
+    	LoggedUser user = userService.loggedUser();
+    	Pageable limit = PageRequest.of(0, pageable.getPageSize() + 1);
+    	List<OrderSummaryDTO> result;
+    	if (cursor == null || cursor.isEmpty()) {
+    		result = repository.searchSummariesByClient(user.getId(), limit);
+    	}
+    	else {
+    		String[] values = CursorUtil.decode(cursor, 2);
+    		try {
+    			result = repository.searchSummariesByClientBefore(user.getId(), Instant.parse(values[0]), Long.valueOf(values[1]), limit);
+    		}
+    		catch (DateTimeParseException | NumberFormatException e) {
+    			throw new BadRequestException("Cursor inválido");
+    		}
+    	}
+
+    	List<OrderSummaryDTO> content = result.stream().limit(pageable.getPageSize()).toList();
+    	String next = null;
+    	if (result.size() > pageable.getPageSize()) {
+    		OrderSummaryDTO last = content.get(content.size() - 1);
+    		next = CursorUtil.encode(last.getMoment().toString(), last.getId().toString());
+    	}
+    	return new CursorPageDTO<>(content, next);
+    }
+
     @Transactional
 	public OrderDTO insert(OrderDTO dto) {
-		
+    	LoggedUser me = userService.loggedUser();
+    	User user = userService.authenticatedReference();
+    	Order order = createOrder(dto, user, findProducts(dto.getItems()));
+    	repository.save(order);
+    	salesReportService.recordInserted(List.of(order));
+    	return new OrderDTO(order, new ClientDTO(me.getId(), me.getName()));
+	}
+
+    @Transactional
+    public List<OrderDTO> insertAll(List<PendingOrder> pendings) {
+    	List<OrderItemDTO> items = pendings.stream().flatMap(x -> x.getOrder().getItems().stream()).toList();
+    	Map<Long, Product> products = findProducts(items);
+    	Map<Long, User> users = new HashMap<>();
+    	List<Order> orders = new ArrayList<>();
+    	for (PendingOrder pending : pendings) {
+    		User user = users.computeIfAbsent(pending.getClientId(), x -> userService.getReference(x));
+    		Order order = createOrder(pending.getOrder(), user, products);
+    		repository.save(order);
+    		orders.add(order);
+    	}
+    	salesReportService.recordInserted(orders);
+    	return orders.stream().map(x -> new OrderDTO(x)).toList();
+    }
+
+    @Transactional
+    public OrderDTO updateStatus(Long id, OrderStatusDTO dto) {
+    	validateStatusChange(dto.getStatus());
+    	Order order = repository.searchWithItemsById(id).orElseThrow(
+    			() -> new ResourceNotFoundException("Recurso não encontrado"));
+    	if (dto.getVersion() != null && !dto.getVersion().equals(order.getVersion())) {
+    		throw new ConflictException("Pedido alterado por outra requisição");
+    	}
+    	OrderStatus previous = order.getStatus();
+    	if (!previous.canChangeTo(dto.getStatus())) {
+    		throw new ConflictException("Transição de status inválida: " + previous + " -> " + dto.getStatus());
+    	}
+    	order.setStatus(dto.getStatus());
+    	salesReportService.recordStatusChange(order, previous);
+    	repository.saveAndFlush(order);
+    	return new OrderDTO(order);
+    }
+
+    @Transactional
+    public OrderStatusBulkResultDTO updateStatus(OrderStatusBulkDTO dto) {
+    	validateStatusChange(dto.getStatus());
+    	if (dto.getStatus() == OrderStatus.CANCELED) {
+    		throw new BadRequestException("Cancelamento em lote não suportado");
+    	}
+    	Set<OrderStatus> from = EnumSet.noneOf(OrderStatus.class);
+    	for (OrderStatus status : OrderStatus.values()) {
+    		if (status.canChangeTo(dto.getStatus())) {
+    			from.add(status);
+    		}
+    	}
+    	Set<Long> ids = new HashSet<>(dto.getIds());
+    	int updated = from.isEmpty() ? 0 : repository.updateStatus(ids, from, dto.getStatus());
+    	return new OrderStatusBulkResultDTO(dto.getStatus(), ids.size(), updated);
+    }
+
+    @Transactional
+    public PaymentDTO registerPayment(Long id) {
+    	Optional<PaymentDTO> existing = paymentRepository.searchByOrderId(id);
+    	if (existing.isPresent()) {
+    		return existing.get();
+    	}
+    	Instant moment = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+    	if (repository.updateStatus(List.of(id), List.of(OrderStatus.WAITING_PAYMENT), OrderStatus.PAID) == 1) {
+    		paymentRepository.save(new Payment(null, moment, repository.getReferenceById(id)));
+    		return new PaymentDTO(id, moment);
+    	}
+    	return paymentRepository.searchByOrderId(id).orElseThrow(() -> repository.existsById(id)
+    			? new ConflictException("Pedido não pode ser pago")
+    			: new ResourceNotFoundException("Recurso não encontrado"));
+    }
+
+    private void validateStatusChange(OrderStatus status) {
+    	if (status == OrderStatus.PAID) {
+    		InvalidDataException e = new InvalidDataException("Dados inválidos");
+    		e.addError("status", "Pagamento deve ser registrado em /orders/{id}/payment");
+    		throw e;
+    	}
+    }
+
+    private Order createOrder(OrderDTO dto, User client, Map<Long, Product> products) {
     	Order order = new Order();
-    	
     	order.setMoment(Instant.now());
     	order.setStatus(OrderStatus.WAITING_PAYMENT);
+    	order.setClient(client);
     	
-    	User user = userService.authenticated();
-    	order.setClient(user);
-    	
-    	for (OrderItemDTO itemDto : dto.getItems()) {
-    		Product product = productRepository.getReferenceById(itemDto.getProductId());
+    	InvalidDataException invalidData = new InvalidDataException("Dados inválidos");
+    	BigDecimal total = BigDecimal.ZERO;
+    	for (int i = 0; i < dto.getItems().size(); i++) {
+    		OrderItemDTO itemDto = dto.getItems().get(i);
+    		Product product = products.get(itemDto.getProductId());
+    		if (product == null) {
+    			invalidData.addError("items[" + i + "].productId", "Produto não encontrado");
+    			continue;
+    		}
     		OrderItem item = new OrderItem(order, product, itemDto.getQuantity(), product.getPrice());
     		order.getItems().add(item);
+    		total = total.add(BigDecimal.valueOf(product.getPrice()).multiply(BigDecimal.valueOf(itemDto.getQuantity())));
     	}
-    	
-    	repository.save(order);
-    	orderItemRepository.saveAll(order.getItems());
-    	
-    	return new OrderDTO(order);
-	}
+    	if (!invalidData.getErrors().isEmpty()) {
+    		throw invalidData;
+    	}
+    	order.setTotal(total.setScale(2, RoundingMode.HALF_EVEN));
+    	return order;
+    }
+
+    private Map<Long, Product> findProducts(List<OrderItemDTO> items) {
+    	Set<Long> ids = items.stream().map(x -> x.getProductId()).filter(x -> x != null).collect(Collectors.toSet());
+    	Map<Long, Product> result = new HashMap<>();
+    	for (Product product : productRepository.findAllById(ids)) {
+    		result.put(product.getId(), product);
+    	}
+    	return result;
+    }
 }
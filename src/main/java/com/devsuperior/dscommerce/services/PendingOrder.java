@@ -0,0 +1,34 @@
+package com.devsuperior.dscommerce.services;
+
+import com.devsuperior.dscommerce.dto.OrderDTO;
+
+public class PendingOrder {
+
+	private final String trackingId;
+	private final Long clientId;
+	private final String username;
+	private final OrderDTO order;
+
+	public PendingOrder(String trackingId, Long clientId, String username, OrderDTO order) {
+		this.trackingId = trackingId;
+		this.clientId = clientId;
+		this.username = username;
+		this.order = order;
+	}
+
+	public String getTrackingId() {
+		return trackingId;
+	}
+
+	public Long getClientId() {
+		return clientId;
+	}
+
+	public String getUsername() {
+		return username;
+	}
+
+	public OrderDTO getOrder() {
+		return order;
+	}
+}
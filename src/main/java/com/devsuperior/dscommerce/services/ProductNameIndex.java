@@ -0,0 +1,228 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dscommerce.dto.ProductMinDTO;
+import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.repositories.ProductRepository;
+import com.devsuperior.dscommerce.utils.TransactionUtil;
+
+/*
+ * Trigram index over Product.name answering the same substring queries as
+ * ProductRepository.searchByName (UPPER(name) LIKE UPPER('%name%')) from memory.
+ * Names containing LIKE wildcards, sort properties outside ProductMinDTO and
+ * case-insensitive or explicit null-handling sorts are not supported and must be
+ * served by the repository.
+ */
+@Component
+public class ProductNameIndex {
+
+	private static final int GRAM_SIZE = 3;
+
+	private static final Map<String, Comparator<ProductMinDTO>> COMPARATORS = Map.of(
+			"id", nullsFirst(ProductMinDTO::getId),
+			"name", nullsFirst(ProductMinDTO::getName),
+			"price", nullsFirst(ProductMinDTO::getPrice),
+			"imgUrl", nullsFirst(ProductMinDTO::getImgUrl));
+
+	@Value("${products.name-index.enabled:false}")
+	private boolean enabled;
+
+	@Autowired
+	private ProductRepository repository;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, ProductMinDTO> products = new HashMap<>();
+	private final Map<Long, String> names = new HashMap<>();
+	private final Map<String, Set<Long>> grams = new HashMap<>();
+	private volatile boolean loaded;
+
+	public boolean supports(String name, Pageable pageable) {
+		if (!enabled || name == null) {
+			return false;
+		}
+		if (name.indexOf('%') >= 0 || name.indexOf('_') >= 0 || name.indexOf('\\') >= 0) {
+			return false;
+		}
+		for (Sort.Order order : pageable.getSort()) {
+			if (!COMPARATORS.containsKey(order.getProperty()) || order.isIgnoreCase()
+					|| order.getNullHandling() != Sort.NullHandling.NATIVE) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public Page<ProductMinDTO> search(String name, Pageable pageable) {
+		load();
+		String term = normalize(name);
+		List<ProductMinDTO> result = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (Long id : candidates(term)) {
+				String productName = names.get(id);
+				if (productName != null && productName.contains(term)) {
+					result.add(products.get(id));
+				}
+			}
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+		result.sort(comparator(pageable.getSort()));
+		if (pageable.isUnpaged()) {
+			return new PageImpl<>(result, pageable, result.size());
+		}
+		int from = (int) Math.min(pageable.getOffset(), result.size());
+		int to = Math.min(from + pageable.getPageSize(), result.size());
+		return new PageImpl<>(new ArrayList<>(result.subList(from, to)), pageable, result.size());
+	}
+
+	public void put(Product product) {
+		if (!enabled) {
+			return;
+		}
+		ProductMinDTO dto = new ProductMinDTO(product);
+		TransactionUtil.afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				if (loaded) {
+					unindex(dto.getId());
+					index(dto);
+				}
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	public void remove(Long id) {
+		if (!enabled) {
+			return;
+		}
+		TransactionUtil.afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				if (loaded) {
+					unindex(id);
+				}
+			}
+			finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+	private void load() {
+		if (loaded) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (!loaded) {
+				for (ProductMinDTO dto : repository.searchAllMin()) {
+					index(dto);
+				}
+				loaded = true;
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private Collection<Long> candidates(String term) {
+		if (term.length() < GRAM_SIZE) {
+			return products.keySet();
+		}
+		Set<Long> smallest = null;
+		for (String gram : grams(term)) {
+			Set<Long> ids = grams.get(gram);
+			if (ids == null) {
+				return Set.of();
+			}
+			if (smallest == null || ids.size() < smallest.size()) {
+				smallest = ids;
+			}
+		}
+		return smallest;
+	}
+
+	private void index(ProductMinDTO dto) {
+		products.put(dto.getId(), dto);
+		if (dto.getName() == null) {
+			return;
+		}
+		String name = normalize(dto.getName());
+		names.put(dto.getId(), name);
+		for (String gram : grams(name)) {
+			grams.computeIfAbsent(gram, x -> new HashSet<>()).add(dto.getId());
+		}
+	}
+
+	private void unindex(Long id) {
+		products.remove(id);
+		String name = names.remove(id);
+		if (name == null) {
+			return;
+		}
+		for (String gram : grams(name)) {
+			Set<Long> ids = grams.get(gram);
+			if (ids != null) {
+				ids.remove(id);
+				if (ids.isEmpty()) {
+					grams.remove(gram);
+				}
+			}
+		}
+	}
+
+	private static Set<String> grams(String value) {
+		Set<String> result = new HashSet<>();
+		for (int i = 0; i + GRAM_SIZE <= value.length(); i++) {
+			result.add(value.substring(i, i + GRAM_SIZE));
+		}
+		return result;
+	}
+
+	private static String normalize(String value) {
+		return value.toUpperCase(Locale.ROOT);
+	}
+
+	private static Comparator<ProductMinDTO> comparator(Sort sort) {
+		Comparator<ProductMinDTO> result = null;
+		for (Sort.Order order : sort) {
+			Comparator<ProductMinDTO> next = COMPARATORS.get(order.getProperty());
+			if (order.isDescending()) {
+				next = next.reversed();
+			}
+			result = (result == null) ? next : result.thenComparing(next);
+		}
+		Comparator<ProductMinDTO> byId = COMPARATORS.get("id");
+		return (result == null) ? byId : result.thenComparing(byId);
+	}
+
+	private static <T extends Comparable<? super T>> Comparator<ProductMinDTO> nullsFirst(Function<ProductMinDTO, T> getter) {
+		return Comparator.comparing(getter, Comparator.nullsFirst(Comparator.<T>naturalOrder()));
+	}
+}
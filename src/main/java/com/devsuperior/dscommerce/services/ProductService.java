@@ -1,21 +1,43 @@
 package com.devsuperior.dscommerce.services;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.devsuperior.dscommerce.dto.CategoryDTO;
+import com.devsuperior.dscommerce.dto.CategoryFacetDTO;
+import com.devsuperior.dscommerce.dto.CursorPageDTO;
+import com.devsuperior.dscommerce.dto.PriceFacetDTO;
 import com.devsuperior.dscommerce.dto.ProductDTO;
+import com.devsuperior.dscommerce.dto.ProductFacetsDTO;
 import com.devsuperior.dscommerce.dto.ProductMinDTO;
+import com.devsuperior.dscommerce.dto.ProductSuggestionDTO;
 import com.devsuperior.dscommerce.entities.Category;
 import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.projections.PriceBucketProjection;
 import com.devsuperior.dscommerce.repositories.ProductRepository;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
 import com.devsuperior.dscommerce.services.exceptions.DatabaseException;
 import com.devsuperior.dscommerce.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscommerce.utils.CursorUtil;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -25,6 +47,22 @@ public class ProductService {
     @Autowired
     private ProductRepository repository;
 
+    @Autowired
+    private ProductNameIndex nameIndex;
+
+    @Autowired
+    private ProductSuggestIndex suggestIndex;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Value("${products.facets.price-bucket-width:500}")
+    private Double priceBucketWidth;
+
+    @Value("${products.ids.maximum-size:100}")
+    private Integer idsMaximumSize;
+
+    @Cacheable(cacheNames = "products", key = "#id")
     @Transactional(readOnly = true)
     public ProductDTO findById(Long id) {
         Product product = repository.findById(id).orElseThrow(
@@ -32,10 +70,116 @@ public class ProductService {
         return new ProductDTO(product);
     }
 
+    @Transactional(readOnly = true)
+    public List<ProductDTO> findAllByIds(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > idsMaximumSize) {
+            throw new BadRequestException("Quantidade de ids excede o máximo de " + idsMaximumSize);
+        }
+        Map<Long, ProductDTO> found = new HashMap<>();
+        for (Product product : repository.findByIdIn(distinct)) {
+            found.put(product.getId(), new ProductDTO(product));
+        }
+        List<ProductDTO> result = new ArrayList<>();
+        for (Long id : distinct) {
+            ProductDTO dto = found.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public Page<ProductMinDTO> findAll(String name, Pageable pageable) {
-        Page<Product> result = repository.searchByName(name, pageable);
-        return result.map(x -> new ProductMinDTO(x));
+        if (nameIndex.supports(name, pageable)) {
+            return nameIndex.search(name, pageable);
+        }
+        return repository.searchByName(name, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ProductMinDTO> findAll(String name, Long categoryId, Double minPrice, Double maxPrice, Pageable pageable) {
+        if (categoryId == null && minPrice == null && maxPrice == null) {
+            return findAll(name, pageable);
+        }
+        return repository.searchByFilter(name, categoryId, minPrice, maxPrice, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public ProductFacetsDTO findFacets(String name, Long categoryId, Double minPrice, Double maxPrice, Double bucketWidth) {
+        double width = (bucketWidth == null) ? priceBucketWidth : bucketWidth;
+        if (!(width > 0.0) || Double.isInfinite(width)) {
+            throw new BadRequestException("Largura de faixa de preço inválida");
+        }
+        List<CategoryFacetDTO> categories = repository.countByCategory(name, minPrice, maxPrice);
+        List<PriceFacetDTO> prices = new ArrayList<>();
+        for (PriceBucketProjection bucket : repository.countByPriceBucket(name, categoryId, width)) {
+            prices.add(new PriceFacetDTO(bucket.getBucket() * width, (bucket.getBucket() + 1) * width, bucket.getProductCount()));
+        }
+        return new ProductFacetsDTO(categories, prices);
+    }
+
+    public List<ProductSuggestionDTO> findSuggestions(String prefix, int limit) {
+        return suggestIndex.search(prefix, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ProductMinDTO> findAllSlice(String name, Long categoryId, Double minPrice, Double maxPrice, Pageable pageable) {
+        if (categoryId == null && minPrice == null && maxPrice == null && nameIndex.supports(name, pageable)) {
+            Page<ProductMinDTO> page = nameIndex.search(name, pageable);
+            return new SliceImpl<>(page.getContent(), pageable, page.hasNext());
+        }
+        return repository.searchSliceByFilter(name, categoryId, minPrice, maxPrice, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProductMinDTO> findAllByCursor(String name, Long categoryId, Double minPrice, Double maxPrice,
+            String cursor, Pageable pageable) {
+        String property;
+        String lastValue = null;
+        Long lastId = 0L;
+        if (cursor == null || cursor.isEmpty()) {
+            Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+            if (order.isDescending()) {
+                throw new BadRequestException("Ordenação decrescente não suportada com cursor");
+            }
+            property = order.getProperty();
+        }
+        else {
+            String[] values = CursorUtil.decode(cursor, 3);
+            property = values[0];
+            lastValue = values[2].isEmpty() ? null : values[2];
+            try {
+                lastId = Long.valueOf(values[1]);
+            }
+            catch (NumberFormatException e) {
+                throw new BadRequestException("Cursor inválido");
+            }
+        }
+
+        Pageable limit = PageRequest.of(0, pageable.getPageSize() + 1);
+        List<ProductMinDTO> result = switch (property) {
+            case "id" -> repository.searchByFilterAfterId(name, categoryId, minPrice, maxPrice, lastId, limit);
+            case "name" -> repository.searchByFilterAfterName(name, categoryId, minPrice, maxPrice,
+                    lastValue == null ? "" : lastValue, lastId, limit);
+            case "price" -> repository.searchByFilterAfterPrice(name, categoryId, minPrice, maxPrice,
+                    parsePrice(lastValue), lastId, limit);
+            default -> throw new BadRequestException("Ordenação não suportada com cursor: " + property);
+        };
+
+        List<ProductMinDTO> content = result.stream().limit(pageable.getPageSize()).toList();
+        String next = null;
+        if (result.size() > pageable.getPageSize()) {
+            ProductMinDTO last = content.get(content.size() - 1);
+            Object value = switch (property) {
+                case "name" -> last.getName();
+                case "price" -> last.getPrice();
+                default -> null;
+            };
+            next = CursorUtil.encode(property, last.getId().toString(), value == null ? "" : value.toString());
+        }
+        return new CursorPageDTO<>(content, next);
     }
 
     @Transactional
@@ -43,15 +187,22 @@ public class ProductService {
         Product entity = new Product();
         copyDtoToEntity(dto, entity);
         entity = repository.save(entity);
+        nameIndex.put(entity);
+        suggestIndex.put(entity);
+        catalogVersion.increment();
         return new ProductDTO(entity);
     }
     
+    @CacheEvict(cacheNames = "products", key = "#id")
     @Transactional
     public ProductDTO update(Long id, ProductDTO dto) {
         try {
             Product entity = repository.getReferenceById(id);
             copyDtoToEntity(dto, entity);
             entity = repository.save(entity);
+            nameIndex.put(entity);
+            suggestIndex.put(entity);
+            catalogVersion.increment();
             return new ProductDTO(entity);
         }
         catch (EntityNotFoundException e) {
@@ -59,19 +210,35 @@ public class ProductService {
         }
     }
 
+    @CacheEvict(cacheNames = "products", key = "#id")
     @Transactional(propagation = Propagation.SUPPORTS)
     public void delete(Long id) {
     	if (!repository.existsById(id)) {
     		throw new ResourceNotFoundException("Recurso não encontrado");
     	}
     	try {
-            repository.deleteById(id);    		
+            repository.deleteById(id);
+            nameIndex.remove(id);
+            suggestIndex.remove(id);
+            catalogVersion.increment();
     	}
         catch (DataIntegrityViolationException e) {
             throw new DatabaseException("Falha de integridade referencial");
         }
     }
 
+    private Double parsePrice(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        }
+        catch (NumberFormatException e) {
+            throw new BadRequestException("Cursor inválido");
+        }
+    }
+
     private void copyDtoToEntity(ProductDTO dto, Product entity) {
         entity.setName(dto.getName());
         entity.setDescription(dto.getDescription());
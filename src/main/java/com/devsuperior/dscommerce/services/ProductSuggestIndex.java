@@ -0,0 +1,148 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dscommerce.dto.ProductMinDTO;
+import com.devsuperior.dscommerce.dto.ProductSuggestionDTO;
+import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.repositories.ProductRepository;
+import com.devsuperior.dscommerce.utils.TransactionUtil;
+
+/*
+ * Product names kept in a sorted array of upper-cased keys, so a prefix lookup is
+ * a binary search followed by a scan of at most 'limit' entries. Readers never
+ * lock: writers build a new array and publish it through a volatile field. The
+ * array is sorted once on load; a write then drops the old entry and inserts the
+ * new one at its binary-search position, so it costs one O(n) copy.
+ */
+@Component
+public class ProductSuggestIndex {
+
+	public static final int MAX_LIMIT = 50;
+
+	private static final Comparator<Entry> ORDER = Comparator.<Entry, String>comparing(x -> x.key)
+			.thenComparing(x -> x.suggestion.getId());
+
+	@Autowired
+	private ProductRepository repository;
+
+	private volatile Entry[] entries;
+
+	public List<ProductSuggestionDTO> search(String prefix, int limit) {
+		Entry[] current = load();
+		String key = normalize(prefix);
+		int max = Math.max(0, Math.min(limit, MAX_LIMIT));
+		List<ProductSuggestionDTO> result = new ArrayList<>(Math.min(max, current.length));
+		for (int i = lowerBound(current, key); i < current.length && result.size() < max; i++) {
+			if (!current[i].key.startsWith(key)) {
+				break;
+			}
+			result.add(current[i].suggestion);
+		}
+		return result;
+	}
+
+	public void put(Product product) {
+		Entry entry = product.getName() == null ? null
+				: new Entry(normalize(product.getName()), new ProductSuggestionDTO(product.getId(), product.getName()));
+		Long id = product.getId();
+		TransactionUtil.afterCommit(() -> replace(id, entry));
+	}
+
+	public void remove(Long id) {
+		TransactionUtil.afterCommit(() -> replace(id, null));
+	}
+
+	private synchronized void replace(Long id, Entry entry) {
+		Entry[] current = entries;
+		if (current == null) {
+			return;
+		}
+		Entry[] next = current;
+		int removed = indexOf(current, id);
+		if (removed >= 0) {
+			next = new Entry[current.length - 1];
+			System.arraycopy(current, 0, next, 0, removed);
+			System.arraycopy(current, removed + 1, next, removed, current.length - removed - 1);
+		}
+		if (entry != null) {
+			int at = Arrays.binarySearch(next, entry, ORDER);
+			if (at < 0) {
+				at = -at - 1;
+			}
+			Entry[] inserted = new Entry[next.length + 1];
+			System.arraycopy(next, 0, inserted, 0, at);
+			inserted[at] = entry;
+			System.arraycopy(next, at, inserted, at + 1, next.length - at);
+			next = inserted;
+		}
+		entries = next;
+	}
+
+	private Entry[] load() {
+		Entry[] current = entries;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (entries == null) {
+				List<Entry> list = new ArrayList<>();
+				for (ProductMinDTO dto : repository.searchAllMin()) {
+					if (dto.getName() != null) {
+						list.add(new Entry(normalize(dto.getName()), new ProductSuggestionDTO(dto.getId(), dto.getName())));
+					}
+				}
+				Entry[] next = list.toArray(new Entry[0]);
+				Arrays.sort(next, ORDER);
+				entries = next;
+			}
+			return entries;
+		}
+	}
+
+	private static int indexOf(Entry[] array, Long id) {
+		for (int i = 0; i < array.length; i++) {
+			if (array[i].suggestion.getId().equals(id)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lowerBound(Entry[] array, String key) {
+		int low = 0;
+		int high = array.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (array[mid].key.compareTo(key) < 0) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static String normalize(String value) {
+		return value.toUpperCase(Locale.ROOT);
+	}
+
+	private static class Entry {
+
+		private final String key;
+		private final ProductSuggestionDTO suggestion;
+
+		private Entry(String key, ProductSuggestionDTO suggestion) {
+			this.key = key;
+			this.suggestion = suggestion;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.devsuperior.dscommerce.services;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.devsuperior.dscommerce.dto.CategorySalesDTO;
+import com.devsuperior.dscommerce.dto.DailySalesDTO;
+import com.devsuperior.dscommerce.dto.ProductSalesDTO;
+import com.devsuperior.dscommerce.entities.Order;
+import com.devsuperior.dscommerce.entities.OrderStatus;
+import com.devsuperior.dscommerce.repositories.CategorySalesRepository;
+import com.devsuperior.dscommerce.repositories.ProductSalesRepository;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
+
+import jakarta.persistence.EntityManager;
+
+/*
+ * Maintains the day x product and day x category rollups inside the transaction that
+ * writes the order, so reports only read the rows of the requested period. Every order
+ * appends its own delta rows (negative ones when it is canceled), computed in SQL from
+ * tb_order_item, and reports sum them by date range. Writers never update a shared
+ * row, so concurrent orders for the same product neither lock nor collide on a key.
+ * Canceled orders do not count; days are UTC dates of Order.moment.
+ */
+@Service
+public class SalesReportService {
+
+	private static final String INSERT_PRODUCT_SALES = insertDelta("tb_product_sales", "product_id",
+			"tb_order_item oi");
+	private static final String INSERT_CATEGORY_SALES = insertDelta("tb_category_sales", "category_id",
+			"tb_order_item oi JOIN tb_product_category pc ON pc.product_id = oi.product_id");
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private ProductSalesRepository productSalesRepository;
+
+	@Autowired
+	private CategorySalesRepository categorySalesRepository;
+
+	@Transactional(readOnly = true)
+	public List<ProductSalesDTO> findByProduct(LocalDate start, LocalDate end) {
+		validatePeriod(start, end);
+		return productSalesRepository.sumByProduct(start, end);
+	}
+
+	@Transactional(readOnly = true)
+	public List<CategorySalesDTO> findByCategory(LocalDate start, LocalDate end) {
+		validatePeriod(start, end);
+		return categorySalesRepository.sumByCategory(start, end);
+	}
+
+	@Transactional(readOnly = true)
+	public List<DailySalesDTO> findByDay(LocalDate start, LocalDate end) {
+		validatePeriod(start, end);
+		return productSalesRepository.sumByDay(start, end);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordInserted(Collection<Order> orders) {
+		apply(orders.stream().filter(x -> x.getStatus() != OrderStatus.CANCELED).toList(), 1);
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void recordStatusChange(Order order, OrderStatus previous) {
+		boolean counted = previous != OrderStatus.CANCELED;
+		boolean counts = order.getStatus() != OrderStatus.CANCELED;
+		if (counted != counts) {
+			apply(List.of(order), counts ? 1 : -1);
+		}
+	}
+
+	private void apply(Collection<Order> orders, int sign) {
+		if (orders.isEmpty()) {
+			return;
+		}
+		// items are read back by the INSERT ... SELECT statements, so pending inserts must reach the database first
+		entityManager.flush();
+		List<Object[]> args = new ArrayList<>();
+		for (Order order : orders) {
+			LocalDate day = LocalDate.ofInstant(order.getMoment(), ZoneOffset.UTC);
+			args.add(new Object[] { Date.valueOf(day), sign, sign, sign, order.getId() });
+		}
+		jdbcTemplate.batchUpdate(INSERT_PRODUCT_SALES, args);
+		jdbcTemplate.batchUpdate(INSERT_CATEGORY_SALES, args);
+	}
+
+	private void validatePeriod(LocalDate start, LocalDate end) {
+		if (start.isAfter(end)) {
+			throw new BadRequestException("Período inválido");
+		}
+	}
+
+	private static String insertDelta(String table, String keyColumn, String from) {
+		return "INSERT INTO " + table + " (sale_date, " + keyColumn + ", quantity, revenue, order_count) " +
+				"SELECT CAST(? AS DATE), " + keyColumn + ", " +
+				"SUM(oi.quantity) * CAST(? AS BIGINT), " +
+				"SUM(CAST(oi.price AS DECIMAL(19, 2)) * oi.quantity) * CAST(? AS BIGINT), " +
+				"CAST(? AS BIGINT) " +
+				"FROM " + from + " WHERE oi.order_id = ? GROUP BY " + keyColumn;
+	}
+}
@@ -0,0 +1,29 @@
+package com.devsuperior.dscommerce.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.devsuperior.dscommerce.entities.User;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/*
+ * Drops cached credentials whenever a User row or its roles change, whatever code path made
+ * the change. Every entry is evicted because the cache is keyed by email and the previous
+ * email is no longer known after an update.
+ */
+@Component
+public class UserCacheListener {
+
+	@Lazy
+	@Autowired
+	private UserService userService;
+
+	@PostUpdate
+	@PostRemove
+	public void userChanged(User user) {
+		userService.evictAllUserDetails();
+	}
+}
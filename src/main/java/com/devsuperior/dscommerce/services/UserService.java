@@ -3,6 +3,8 @@ package com.devsuperior.dscommerce.services;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,11 +12,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.devsuperior.dscommerce.dto.UserDTO;
-import com.devsuperior.dscommerce.entities.Role;
 import com.devsuperior.dscommerce.entities.User;
 import com.devsuperior.dscommerce.projections.UserDetailsProjection;
 import com.devsuperior.dscommerce.repositories.UserRepository;
 import com.devsuperior.dscommerce.utils.CustomUserUtil;
+import com.devsuperior.dscommerce.utils.LoggedUser;
+import com.devsuperior.dscommerce.utils.UserPrincipal;
 
 @Service
 public class UserService implements UserDetailsService {
@@ -26,6 +29,7 @@ public class UserService implements UserDetailsService {
 	private CustomUserUtil customUserUtil;
 	
 	@Override
+	@Cacheable(cacheNames = "users", key = "#username")
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		
 		List<UserDetailsProjection> result = repository.searchUserAndRolesByEmail(username);
@@ -33,14 +37,17 @@ public class UserService implements UserDetailsService {
 			throw new UsernameNotFoundException("Email not found");
 		}
 		
-		User user = new User();
-		user.setEmail(result.get(0).getUsername());
-		user.setPassword(result.get(0).getPassword());
-		for (UserDetailsProjection projection : result) {
-			user.addRole(new Role(projection.getRoleId(), projection.getAuthority()));
-		}
-		
-		return user;
+		UserDetailsProjection first = result.get(0);
+		List<String> authorities = result.stream().map(x -> x.getAuthority()).toList();
+		return new UserPrincipal(first.getUserId(), first.getName(), first.getUsername(), first.getPassword(), authorities);
+	}
+	
+	@CacheEvict(cacheNames = "users", key = "#email")
+	public void evictUserDetails(String email) {
+	}
+
+	@CacheEvict(cacheNames = "users", allEntries = true)
+	public void evictAllUserDetails() {
 	}
 	
 	protected User authenticated() {
@@ -53,6 +60,23 @@ public class UserService implements UserDetailsService {
 		}
 	}	
 	
+	protected LoggedUser loggedUser() {
+		try {
+			return customUserUtil.getLoggedUser();
+		}
+		catch (Exception e) {
+			throw new UsernameNotFoundException("Invalid user");
+		}
+	}
+
+	protected User authenticatedReference() {
+		return repository.getReferenceById(loggedUser().getId());
+	}
+	
+	protected User getReference(Long id) {
+		return repository.getReferenceById(id);
+	}
+	
 	@Transactional(readOnly = true)
 	public UserDTO getMe() {
 		User entity = authenticated();
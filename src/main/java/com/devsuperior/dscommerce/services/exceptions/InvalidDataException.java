@@ -0,0 +1,24 @@
+package com.devsuperior.dscommerce.services.exceptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.devsuperior.dscommerce.dto.FieldMessageDTO;
+
+@SuppressWarnings("serial")
+public class InvalidDataException extends RuntimeException {
+
+    private List<FieldMessageDTO> errors = new ArrayList<>();
+
+    public InvalidDataException(String msg) {
+        super(msg);
+    }
+
+    public List<FieldMessageDTO> getErrors() {
+        return errors;
+    }
+
+    public void addError(String fieldName, String message) {
+        errors.add(new FieldMessageDTO(fieldName, message));
+    }
+}
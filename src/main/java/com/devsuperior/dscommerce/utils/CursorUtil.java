@@ -0,0 +1,34 @@
+package com.devsuperior.dscommerce.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
+
+public class CursorUtil {
+
+	private static final String SEPARATOR = "\0";
+
+	private CursorUtil() {
+	}
+
+	public static String encode(String... values) {
+		String raw = String.join(SEPARATOR, values);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String[] decode(String cursor, int size) {
+		String raw;
+		try {
+			raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+		}
+		catch (IllegalArgumentException e) {
+			throw new BadRequestException("Cursor inválido");
+		}
+		String[] values = raw.split(SEPARATOR, size);
+		if (values.length != size) {
+			throw new BadRequestException("Cursor inválido");
+		}
+		return values;
+	}
+}
@@ -1,8 +1,11 @@
 package com.devsuperior.dscommerce.utils;
 
+import java.util.List;
+
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -14,4 +17,15 @@ public class CustomUserUtil {
 		return jwtPrincipal.getClaim("username");
 	}
 
+	public LoggedUser getLoggedUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		Jwt jwtPrincipal = (Jwt) authentication.getPrincipal();
+		Number userId = jwtPrincipal.getClaim("userId");
+		if (userId == null) {
+			throw new InvalidBearerTokenException("Token without userId claim");
+		}
+		List<String> authorities = jwtPrincipal.getClaimAsStringList("authorities");
+		return new LoggedUser(userId.longValue(), jwtPrincipal.getClaim("username"), jwtPrincipal.getClaim("name"), authorities);
+	}
+
 }
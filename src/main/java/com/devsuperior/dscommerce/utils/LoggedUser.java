@@ -0,0 +1,39 @@
+package com.devsuperior.dscommerce.utils;
+
+import java.util.Collection;
+import java.util.Set;
+
+public class LoggedUser {
+
+	private Long id;
+	private String username;
+	private String name;
+	private Set<String> authorities;
+
+	public LoggedUser(Long id, String username, String name, Collection<String> authorities) {
+		this.id = id;
+		this.username = username;
+		this.name = name;
+		this.authorities = Set.copyOf(authorities);
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getUsername() {
+		return username;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Set<String> getAuthorities() {
+		return authorities;
+	}
+
+	public boolean hasRole(String roleName) {
+		return authorities.contains(roleName);
+	}
+}
@@ -0,0 +1,69 @@
+package com.devsuperior.dscommerce.utils;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+@SuppressWarnings("serial")
+public final class UserPrincipal implements UserDetails {
+
+	private final Long id;
+	private final String name;
+	private final String username;
+	private final String password;
+	private final List<GrantedAuthority> authorities;
+
+	public UserPrincipal(Long id, String name, String username, String password, Collection<String> authorities) {
+		this.id = id;
+		this.name = name;
+		this.username = username;
+		this.password = password;
+		this.authorities = authorities.stream().map(x -> (GrantedAuthority) new SimpleGrantedAuthority(x)).toList();
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String getUsername() {
+		return username;
+	}
+
+	@Override
+	public String getPassword() {
+		return password;
+	}
+
+	@Override
+	public List<GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+}
@@ -67,14 +67,24 @@ INSERT INTO tb_user_role (user_id, role_id) VALUES (2, 1);
 INSERT INTO tb_user_role (user_id, role_id) VALUES (2, 2);
 INSERT INTO tb_user_role (user_id, role_id) VALUES (3, 2);
 
-INSERT INTO tb_order (moment, status, client_id) VALUES (TIMESTAMP WITH TIME ZONE '2022-07-25T13:00:00Z', 1, 1);
-INSERT INTO tb_order (moment, status, client_id) VALUES (TIMESTAMP WITH TIME ZONE '2022-07-29T15:50:00Z', 3, 2);
-INSERT INTO tb_order (moment, status, client_id) VALUES (TIMESTAMP WITH TIME ZONE '2022-08-03T14:20:00Z', 0, 1);
+INSERT INTO tb_order (id, moment, status, client_id, total, version) VALUES (1, TIMESTAMP WITH TIME ZONE '2022-07-25T13:00:00Z', 1, 1, 1431.00, 0);
+INSERT INTO tb_order (id, moment, status, client_id, total, version) VALUES (2, TIMESTAMP WITH TIME ZONE '2022-07-29T15:50:00Z', 3, 2, 1250.00, 0);
+INSERT INTO tb_order (id, moment, status, client_id, total, version) VALUES (3, TIMESTAMP WITH TIME ZONE '2022-08-03T14:20:00Z', 0, 1, 90.50, 0);
 
 INSERT INTO tb_order_item (order_id, product_id, quantity, price) VALUES (1, 1, 2, 90.5);
 INSERT INTO tb_order_item (order_id, product_id, quantity, price) VALUES (1, 3, 1, 1250.0);
 INSERT INTO tb_order_item (order_id, product_id, quantity, price) VALUES (2, 3, 1, 1250.0);
 INSERT INTO tb_order_item (order_id, product_id, quantity, price) VALUES (3, 1, 1, 90.5);
 
+INSERT INTO tb_product_sales (sale_date, product_id, quantity, revenue, order_count) VALUES (DATE '2022-07-25', 1, 2, 181.00, 1);
+INSERT INTO tb_product_sales (sale_date, product_id, quantity, revenue, order_count) VALUES (DATE '2022-07-25', 3, 1, 1250.00, 1);
+INSERT INTO tb_product_sales (sale_date, product_id, quantity, revenue, order_count) VALUES (DATE '2022-07-29', 3, 1, 1250.00, 1);
+INSERT INTO tb_product_sales (sale_date, product_id, quantity, revenue, order_count) VALUES (DATE '2022-08-03', 1, 1, 90.50, 1);
+
+INSERT INTO tb_category_sales (sale_date, category_id, quantity, revenue, order_count) VALUES (DATE '2022-07-25', 1, 2, 181.00, 1);
+INSERT INTO tb_category_sales (sale_date, category_id, quantity, revenue, order_count) VALUES (DATE '2022-07-25', 3, 1, 1250.00, 1);
+INSERT INTO tb_category_sales (sale_date, category_id, quantity, revenue, order_count) VALUES (DATE '2022-07-29', 3, 1, 1250.00, 1);
+INSERT INTO tb_category_sales (sale_date, category_id, quantity, revenue, order_count) VALUES (DATE '2022-08-03', 1, 1, 90.50, 1);
+
 INSERT INTO tb_payment (order_id, moment) VALUES (1, TIMESTAMP WITH TIME ZONE '2022-07-25T15:00:00Z');
 INSERT INTO tb_payment (order_id, moment) VALUES (2, TIMESTAMP WITH TIME ZONE '2022-07-30T11:00:00Z');
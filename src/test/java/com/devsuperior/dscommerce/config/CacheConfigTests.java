@@ -0,0 +1,36 @@
+package com.devsuperior.dscommerce.config;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+public class CacheConfigTests {
+
+	private CacheManager cacheManager;
+
+	@BeforeEach
+	void setup() throws Exception {
+
+		CacheConfig config = new CacheConfig();
+		ReflectionTestUtils.setField(config, "productsMaximumSize", 100L);
+		ReflectionTestUtils.setField(config, "productsTtl", 600L);
+		ReflectionTestUtils.setField(config, "usersMaximumSize", 100L);
+		ReflectionTestUtils.setField(config, "usersTtl", 300L);
+		cacheManager = config.cacheManager();
+	}
+
+	@Test
+	public void productsCacheShouldExpireEntriesAfterTtl() {
+
+		Cache<?, ?> cache = (Cache<?, ?>) cacheManager.getCache("products").getNativeCache();
+
+		Assertions.assertEquals(Duration.ofSeconds(600), cache.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+		Assertions.assertEquals(100L, cache.policy().eviction().orElseThrow().getMaximum());
+	}
+}
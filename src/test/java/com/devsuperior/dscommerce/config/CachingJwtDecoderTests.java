@@ -0,0 +1,77 @@
+package com.devsuperior.dscommerce.config;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+public class CachingJwtDecoderTests {
+
+	private CachingJwtDecoder decoder;
+
+	@Mock
+	private JwtDecoder delegate;
+
+	private String validToken, expiredToken, invalidToken;
+
+	@BeforeEach
+	void setup() throws Exception {
+
+		decoder = new CachingJwtDecoder(delegate, 100L, Duration.ofHours(1));
+
+		validToken = "valid.token.value";
+		expiredToken = "expired.token.value";
+		invalidToken = "invalid.token.value";
+
+		Mockito.when(delegate.decode(validToken)).thenReturn(createJwt(validToken, Instant.now().plusSeconds(60)));
+		Mockito.when(delegate.decode(expiredToken)).thenReturn(createJwt(expiredToken, Instant.now().minusSeconds(1)));
+		Mockito.when(delegate.decode(invalidToken)).thenThrow(new BadJwtException("Invalid signature"));
+	}
+
+	@Test
+	public void decodeShouldVerifyTokenOnlyOnceWhenTokenIsNotExpired() {
+
+		Jwt first = decoder.decode(validToken);
+		Jwt second = decoder.decode(validToken);
+
+		Assertions.assertSame(first, second);
+		Mockito.verify(delegate, Mockito.times(1)).decode(validToken);
+	}
+
+	@Test
+	public void decodeShouldCallDelegateAgainWhenTokenIsExpired() {
+
+		decoder.decode(expiredToken);
+		decoder.decode(expiredToken);
+
+		Mockito.verify(delegate, Mockito.times(2)).decode(expiredToken);
+	}
+
+	@Test
+	public void decodeShouldNotCacheRejectedTokens() {
+
+		Assertions.assertThrows(BadJwtException.class, () -> decoder.decode(invalidToken));
+		Assertions.assertThrows(BadJwtException.class, () -> decoder.decode(invalidToken));
+
+		Mockito.verify(delegate, Mockito.times(2)).decode(invalidToken);
+	}
+
+	private Jwt createJwt(String token, Instant expiresAt) {
+		return Jwt.withTokenValue(token)
+				.header("alg", "RS256")
+				.claim("username", "maria@gmail.com")
+				.issuedAt(expiresAt.minusSeconds(120))
+				.expiresAt(expiresAt)
+				.build();
+	}
+}
@@ -0,0 +1,140 @@
+package com.devsuperior.dscommerce.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2RefreshToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.security.oauth2.server.authorization.OAuth2Authorization;
+import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+public class CaffeineOAuth2AuthorizationServiceTests {
+
+	private CaffeineOAuth2AuthorizationService service;
+
+	private RegisteredClient registeredClient;
+
+	@BeforeEach
+	void setup() throws Exception {
+
+		service = new CaffeineOAuth2AuthorizationService(100L, Duration.ofHours(1), true);
+
+		registeredClient = RegisteredClient.withId("1")
+				.clientId("myclientid")
+				.authorizationGrantType(new AuthorizationGrantType("password"))
+				.build();
+	}
+
+	@Test
+	public void findByTokenShouldReturnAuthorizationWhenAccessTokenMatches() {
+
+		OAuth2Authorization authorization = createAuthorization("a1", "token-1", Instant.now().plusSeconds(60));
+		service.save(authorization);
+
+		Assertions.assertSame(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN), authorization);
+		Assertions.assertSame(service.findByToken("token-1", null), authorization);
+		Assertions.assertNull(service.findByToken("token-1", OAuth2TokenType.REFRESH_TOKEN));
+		Assertions.assertNull(service.findByToken("token-2", OAuth2TokenType.ACCESS_TOKEN));
+	}
+
+	@Test
+	public void findByIdShouldReturnNullWhenAccessTokenHasExpired() {
+
+		service.save(createAuthorization("a1", "token-1", Instant.now().minusSeconds(1)));
+
+		Assertions.assertNull(service.findById("a1"));
+		Assertions.assertNull(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN));
+	}
+
+	@Test
+	public void saveShouldDropPreviousTokensWhenAuthorizationIsReplaced() {
+
+		service.save(createAuthorization("a1", "token-1", Instant.now().plusSeconds(60)));
+		service.save(createAuthorization("a1", "token-2", Instant.now().plusSeconds(60)));
+
+		Assertions.assertNull(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN));
+		Assertions.assertNotNull(service.findByToken("token-2", OAuth2TokenType.ACCESS_TOKEN));
+	}
+
+	@Test
+	public void removeShouldDeleteAuthorizationAndItsTokens() {
+
+		OAuth2Authorization authorization = createAuthorization("a1", "token-1", Instant.now().plusSeconds(60));
+		service.save(authorization);
+
+		service.remove(authorization);
+
+		Assertions.assertNull(service.findById("a1"));
+		Assertions.assertNull(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN));
+	}
+
+	@Test
+	public void saveShouldStoreNothingWhenPersistIsDisabled() {
+
+		service = new CaffeineOAuth2AuthorizationService(100L, Duration.ofHours(1), false);
+
+		service.save(createAuthorization("a1", "token-1", Instant.now().plusSeconds(60)));
+
+		Assertions.assertNull(service.findById("a1"));
+		Assertions.assertNull(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN));
+	}
+
+	@Test
+	public void findByIdShouldReturnNullWhenTickerPassesTokenExpiry() {
+
+		AtomicLong nanos = new AtomicLong();
+		Ticker ticker = nanos::get;
+		Clock clock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC);
+		service = new CaffeineOAuth2AuthorizationService(100L, Duration.ofHours(1), true, ticker, clock);
+
+		service.save(createAuthorization("a1", "token-1", clock.instant().plusSeconds(60)));
+
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(59));
+		Assertions.assertNotNull(service.findById("a1"));
+		Assertions.assertNotNull(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN));
+
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+		Assertions.assertNull(service.findById("a1"));
+		Assertions.assertNull(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN));
+	}
+
+	@Test
+	public void findByTokenShouldResolveEveryTokenWhenAuthorizationsAreAtCapacity() {
+
+		service = new CaffeineOAuth2AuthorizationService(1L, Duration.ofHours(1), true);
+		Instant expiresAt = Instant.now().plusSeconds(60);
+		OAuth2Authorization authorization = OAuth2Authorization.from(createAuthorization("a1", "token-1", expiresAt))
+				.attribute(OAuth2ParameterNames.STATE, "state-1")
+				.refreshToken(new OAuth2RefreshToken("refresh-1", expiresAt.minusSeconds(120), expiresAt))
+				.build();
+
+		service.save(authorization);
+
+		Assertions.assertSame(service.findByToken("state-1", new OAuth2TokenType(OAuth2ParameterNames.STATE)), authorization);
+		Assertions.assertSame(service.findByToken("token-1", OAuth2TokenType.ACCESS_TOKEN), authorization);
+		Assertions.assertSame(service.findByToken("refresh-1", OAuth2TokenType.REFRESH_TOKEN), authorization);
+	}
+
+	private OAuth2Authorization createAuthorization(String id, String tokenValue, Instant expiresAt) {
+		OAuth2AccessToken accessToken = new OAuth2AccessToken(OAuth2AccessToken.TokenType.BEARER, tokenValue,
+				expiresAt.minusSeconds(120), expiresAt);
+		return OAuth2Authorization.withRegisteredClient(registeredClient)
+				.id(id)
+				.principalName("myclientid")
+				.authorizationGrantType(new AuthorizationGrantType("password"))
+				.token(accessToken)
+				.build();
+	}
+}
@@ -0,0 +1,126 @@
+package com.devsuperior.dscommerce.config;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+
+public class JwkSetLoaderTests {
+
+	@TempDir
+	private Path tempDir;
+
+	private Resource resource;
+
+	private Resource keyStore;
+
+	@BeforeEach
+	void setup() throws Exception {
+
+		RSAKey current = new RSAKeyGenerator(2048).keyID("2024-02").generate();
+		RSAKey retired = new RSAKeyGenerator(2048).keyID("2024-01").generate().toPublicJWK();
+		JWKSet jwkSet = new JWKSet(List.<JWK>of(retired, current));
+
+		Path file = tempDir.resolve("jwks.json");
+		Files.writeString(file, jwkSet.toString(false));
+		resource = new FileSystemResource(file);
+		keyStore = new ClassPathResource("keys/signing-keys.p12");
+	}
+
+	@Test
+	public void loadShouldReturnAllKeysWhenFileIsJwkSet() {
+
+		JWKSet result = JwkSetLoader.load(resource, "");
+
+		Assertions.assertEquals(2, result.getKeys().size());
+		Assertions.assertTrue(result.getKeyByKeyId("2024-02").isPrivate());
+		Assertions.assertFalse(result.getKeyByKeyId("2024-01").isPrivate());
+	}
+
+	@Test
+	public void activeKeyIdShouldReturnFirstPrivateKeyWhenKeyIdIsBlank() {
+
+		JWKSet jwkSet = JwkSetLoader.load(resource, "");
+
+		Assertions.assertEquals("2024-02", JwkSetLoader.activeKeyId(jwkSet, ""));
+	}
+
+	@Test
+	public void activeKeyIdShouldThrowIllegalStateExceptionWhenKeyHasNoPrivatePart() {
+
+		JWKSet jwkSet = JwkSetLoader.load(resource, "");
+
+		Assertions.assertThrows(IllegalStateException.class, () -> JwkSetLoader.activeKeyId(jwkSet, "2024-01"));
+		Assertions.assertThrows(IllegalStateException.class, () -> JwkSetLoader.activeKeyId(jwkSet, "2023-12"));
+	}
+
+	@Test
+	public void loadShouldThrowIllegalStateExceptionWhenFileDoesNotExist() {
+
+		Resource missing = new FileSystemResource(tempDir.resolve("missing.p12"));
+
+		Assertions.assertThrows(IllegalStateException.class, () -> JwkSetLoader.load(missing, "secret"));
+	}
+
+	@Test
+	public void loadShouldReturnPrivateKeysNamedByAliasWhenFileIsPkcs12() {
+
+		JWKSet result = JwkSetLoader.load(keyStore, "secret");
+
+		Assertions.assertEquals(2, result.getKeys().size());
+		Assertions.assertTrue(result.getKeyByKeyId("2024-01").isPrivate());
+		Assertions.assertTrue(result.getKeyByKeyId("2024-02").isPrivate());
+	}
+
+	@Test
+	public void loadShouldThrowIllegalStateExceptionWhenPkcs12PasswordIsWrong() {
+
+		Assertions.assertThrows(IllegalStateException.class, () -> JwkSetLoader.load(keyStore, "wrong"));
+	}
+
+	@Test
+	public void encodeShouldSignWithActiveKeyWhenKeyIdIsSetInHeader() throws Exception {
+
+		JWKSet jwkSet = JwkSetLoader.load(keyStore, "secret");
+		String keyId = JwkSetLoader.activeKeyId(jwkSet, "2024-02");
+		NimbusJwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(jwkSet));
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder().subject("maria@gmail.com").issuedAt(now).expiresAt(now.plusSeconds(60)).build();
+
+		Assertions.assertThrows(JwtEncodingException.class,
+				() -> encoder.encode(JwtEncoderParameters.from(JwsHeader.with(SignatureAlgorithm.RS256).build(), claims)));
+
+		// same header the tokenCustomizer in AuthorizationServerConfig sets on every issued token
+		JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).keyId(keyId).build();
+		Jwt jwt = encoder.encode(JwtEncoderParameters.from(header, claims));
+
+		Assertions.assertEquals("2024-02", jwt.getHeaders().get("kid"));
+		NimbusJwtDecoder active = NimbusJwtDecoder.withPublicKey(jwkSet.getKeyByKeyId("2024-02").toRSAKey().toRSAPublicKey()).build();
+		NimbusJwtDecoder retired = NimbusJwtDecoder.withPublicKey(jwkSet.getKeyByKeyId("2024-01").toRSAKey().toRSAPublicKey()).build();
+		Assertions.assertEquals("maria@gmail.com", active.decode(jwt.getTokenValue()).getSubject());
+		Assertions.assertThrows(JwtException.class, () -> retired.decode(jwt.getTokenValue()));
+	}
+}
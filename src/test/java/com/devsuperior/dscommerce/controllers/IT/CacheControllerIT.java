@@ -0,0 +1,74 @@
+package com.devsuperior.dscommerce.controllers.IT;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.devsuperior.dscommerce.services.UserService;
+import com.devsuperior.dscommerce.tests.TokenUtil;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class CacheControllerIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private String clientUsername, adminToken;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		clientUsername = "maria@gmail.com";
+		adminToken = tokenUtil.obtainAccessToken(mockMvc, "alex@gmail.com", "123456");
+	}
+
+	@Test
+	public void findAllStatsShouldReportUsersCacheHitsWhenSameUserLogsInAgain() throws Exception {
+
+		tokenUtil.obtainAccessToken(mockMvc, clientUsername, "123456");
+		tokenUtil.obtainAccessToken(mockMvc, clientUsername, "123456");
+
+		String content = mockMvc.perform(get("/caches")
+				.header("Authorization", "Bearer " + adminToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		List<Integer> hits = JsonPath.read(content, "$[?(@.name == 'users')].hitCount");
+		Assertions.assertEquals(1, hits.size());
+		Assertions.assertTrue(hits.get(0) > 0);
+	}
+
+	@Test
+	public void evictUserDetailsShouldRemoveCachedCredentials() throws Exception {
+
+		tokenUtil.obtainAccessToken(mockMvc, clientUsername, "123456");
+		Assertions.assertNotNull(cacheManager.getCache("users").get(clientUsername));
+
+		userService.evictUserDetails(clientUsername);
+
+		Assertions.assertNull(cacheManager.getCache("users").get(clientUsername));
+	}
+}
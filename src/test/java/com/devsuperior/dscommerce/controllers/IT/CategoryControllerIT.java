@@ -1,6 +1,8 @@
 package com.devsuperior.dscommerce.controllers.IT;
 
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -37,4 +39,59 @@ public class CategoryControllerIT {
 		result.andExpect(jsonPath("$.[2].id").value(3L));
 		result.andExpect(jsonPath("$.[2].name").value("Computadores"));
 	}
+
+	@Test
+	public void findAllShouldReturnNotModifiedWhenETagMatches() throws Exception {
+
+		ResultActions first =
+				mockMvc.perform(get("/categories")
+					.accept(MediaType.APPLICATION_JSON));
+
+		first.andExpect(status().isOk());
+		first.andExpect(header().exists("ETag"));
+
+		String etag = first.andReturn().getResponse().getHeader("ETag");
+
+		ResultActions result =
+				mockMvc.perform(get("/categories")
+					.header("If-None-Match", etag)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isNotModified());
+	}
+
+	@Test
+	public void findAllShouldReturnGzipBodyWithDistinctETagWhenGzipIsAccepted() throws Exception {
+
+		ResultActions identity =
+				mockMvc.perform(get("/categories")
+					.accept(MediaType.APPLICATION_JSON));
+
+		String etag = identity.andReturn().getResponse().getHeader("ETag");
+
+		ResultActions result =
+				mockMvc.perform(get("/categories")
+					.header("Accept-Encoding", "br, gzip;q=0.8")
+					.header("If-None-Match", etag)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(header().string("Content-Encoding", "gzip"));
+		result.andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")));
+		result.andExpect(header().string("ETag", etag.substring(0, etag.length() - 1) + "-gz\""));
+	}
+
+	@Test
+	public void findAllShouldReturnIdentityBodyWhenGzipHasZeroQuality() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/categories")
+					.header("Accept-Encoding", "gzip;q=0, *;q=0.5")
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(header().doesNotExist("Content-Encoding"));
+		result.andExpect(header().stringValues("Vary", hasItem("Accept-Encoding")));
+		result.andExpect(jsonPath("$.[0].id").value(1L));
+	}
 }
@@ -7,6 +7,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.Instant;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +21,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
 import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderItemDTO;
 import com.devsuperior.dscommerce.entities.Order;
 import com.devsuperior.dscommerce.entities.OrderItem;
 import com.devsuperior.dscommerce.entities.OrderStatus;
@@ -29,6 +33,8 @@ import com.devsuperior.dscommerce.tests.TokenUtil;
 import com.devsuperior.dscommerce.tests.UserFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.EntityManagerFactory;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 public class OrderControllerIT {
@@ -41,6 +47,9 @@ public class OrderControllerIT {
 	
 	@Autowired
 	private TokenUtil tokenUtil;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
 	
 	private String clientUsername, clientPassword, adminUsername, adminPassword, adminOnlyUsername, adminOnlyPassword;
 	private String clientToken, adminToken, adminOnlyToken, invalidToken;
@@ -94,9 +103,31 @@ public class OrderControllerIT {
 		result.andExpect(jsonPath("$.client").exists());
 		result.andExpect(jsonPath("$.payment").exists());
 		result.andExpect(jsonPath("$.items").exists());
-		result.andExpect(jsonPath("$.total").exists());
+		result.andExpect(jsonPath("$.total").value(1431.0));
 	}
 	
+	@Test
+	public void findByIdShouldLoadOrderGraphWithSingleQueryWhenClientLogged() throws Exception {
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+
+		ResultActions result =
+				mockMvc.perform(get("/orders/{id}", existingOrderId)
+						.header("Authorization", "Bearer " + clientToken)
+						.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.items.length()").value(2));
+		result.andExpect(jsonPath("$.payment").exists());
+		Assertions.assertEquals(0L, statistics.getEntityStatistics(Product.class.getName()).getFetchCount());
+		Assertions.assertEquals(0L, statistics.getEntityStatistics(Payment.class.getName()).getFetchCount());
+		Assertions.assertEquals(0L, statistics.getCollectionStatistics(Order.class.getName() + ".items").getFetchCount());
+		// validateSelfOrAdmin reads the token claims, so the order graph is the only query
+		Assertions.assertEquals(1L, statistics.getPrepareStatementCount());
+	}
+
 	@Test
 	public void findByIdShouldReturnOrderDTOWhenIdExistsAndClientLogged() throws Exception {
 		
@@ -181,7 +212,7 @@ public class OrderControllerIT {
 		result.andExpect(jsonPath("$.status").value("WAITING_PAYMENT"));
 		result.andExpect(jsonPath("$.client").exists());
 		result.andExpect(jsonPath("$.items").exists());
-		result.andExpect(jsonPath("$.total").exists());
+		result.andExpect(jsonPath("$.total").value(181.0));
 	}
 	
 	@Test
@@ -202,6 +233,25 @@ public class OrderControllerIT {
 		result.andExpect(status().isUnprocessableEntity());
 	}
 	
+	@Test
+	public void insertShouldReturnUnprocessableEntityWhenClientLoggedAndProductDoesNotExist() throws Exception {
+
+		orderDTO.getItems().add(new OrderItemDTO(1000L, "Xpto", 10.0, 1, null));
+
+		String jsonBody = objectMapper.writeValueAsString(orderDTO);
+
+		ResultActions result =
+				mockMvc.perform(post("/orders")
+					.header("Authorization", "Bearer " + clientToken)
+					.content(jsonBody)
+					.contentType(MediaType.APPLICATION_JSON)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isUnprocessableEntity());
+		result.andExpect(jsonPath("$.errors[0].fieldName").value("items[1].productId"));
+		result.andExpect(jsonPath("$.errors[0].message").value("Produto não encontrado"));
+	}
+
 	@Test
 	public void insertShouldReturnForbiddenWhenAdminLogged() throws Exception {
 
@@ -0,0 +1,479 @@
+package com.devsuperior.dscommerce.controllers.IT;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderItemDTO;
+import com.devsuperior.dscommerce.entities.Category;
+import com.devsuperior.dscommerce.entities.OrderStatus;
+import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.entities.User;
+import com.devsuperior.dscommerce.tests.TokenUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class OrderControllerWriteIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private String clientToken, adminToken;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		clientToken = tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+		adminToken = tokenUtil.obtainAccessToken(mockMvc, "alex@gmail.com", "123456");
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+	}
+
+	@Test
+	public void insertShouldResolveAllProductsWithSingleQueryWhenClientLogged() throws Exception {
+
+		OrderDTO orderDTO = createOrderDTO(10);
+
+		ResultActions result = performInsert(orderDTO);
+
+		result.andExpect(status().isCreated());
+		Assertions.assertEquals(0L, statistics.getEntityStatistics(Product.class.getName()).getFetchCount());
+		Assertions.assertEquals(10L, statistics.getEntityStatistics(Product.class.getName()).getLoadCount());
+		Assertions.assertEquals(0L, statistics.getEntityStatistics(User.class.getName()).getLoadCount());
+	}
+
+	@Test
+	public void insertShouldWriteLargeOrderInBoundedNumberOfStatementsWhenClientLogged() throws Exception {
+
+		OrderDTO orderDTO = createOrderDTO(25);
+
+		ResultActions result = performInsert(orderDTO);
+
+		result.andExpect(status().isCreated());
+		Assertions.assertEquals(26L, statistics.getEntityInsertCount());
+		Assertions.assertTrue(statistics.getPrepareStatementCount() < 10L);
+	}
+
+	@Test
+	public void insertAsyncShouldReturnAcceptedAndTrackingShouldReportAcceptedOrder() throws Exception {
+
+		String jsonBody = objectMapper.writeValueAsString(createOrderDTO(3));
+
+		ResultActions result = mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.header("Prefer", "respond-async")
+				.content(jsonBody)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isAccepted());
+		result.andExpect(header().exists("Location"));
+		result.andExpect(jsonPath("$.status").value("PENDING"));
+
+		String trackingId = JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.trackingId");
+
+		String content = awaitTracking(trackingId);
+
+		Assertions.assertEquals("ACCEPTED", JsonPath.read(content, "$.status"));
+		Integer orderId = JsonPath.read(content, "$.orderId");
+
+		mockMvc.perform(get("/orders/{id}", orderId)
+				.header("Authorization", "Bearer " + clientToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items.length()").value(3));
+	}
+
+	@Test
+	public void insertShouldReturnAcceptedWhenPreferListsRespondAsyncAmongOtherPreferences() throws Exception {
+
+		String jsonBody = objectMapper.writeValueAsString(createOrderDTO(1));
+
+		ResultActions result = mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.header("Prefer", "return=minimal, respond-async, wait=5")
+				.content(jsonBody)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isAccepted());
+		result.andExpect(jsonPath("$.trackingId").exists());
+
+		String trackingId = JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.trackingId");
+
+		Assertions.assertEquals("ACCEPTED", JsonPath.read(awaitTracking(trackingId), "$.status"));
+	}
+
+	@Test
+	public void insertShouldReturnCreatedWhenPreferDoesNotRequestRespondAsync() throws Exception {
+
+		String jsonBody = objectMapper.writeValueAsString(createOrderDTO(1));
+
+		ResultActions result = mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.header("Prefer", "return=representation")
+				.content(jsonBody)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isCreated());
+		result.andExpect(jsonPath("$.id").exists());
+	}
+
+	@Test
+	public void insertShouldReplayFirstOrderWhenIdempotencyKeyIsRepeated() throws Exception {
+
+		String jsonBody = objectMapper.writeValueAsString(createOrderDTO(2));
+
+		String first = mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.header("Idempotency-Key", "checkout-123")
+				.content(jsonBody)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+
+		statistics.clear();
+
+		ResultActions result = mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.header("Idempotency-Key", "checkout-123")
+				.content(jsonBody)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isCreated());
+		result.andExpect(jsonPath("$.id").value((Integer) JsonPath.read(first, "$.id")));
+		Assertions.assertEquals(0L, statistics.getEntityInsertCount());
+	}
+
+	@Test
+	public void insertShouldReturnUnprocessableEntityWhenIdempotencyKeyIsReusedWithOtherItems() throws Exception {
+
+		mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.header("Idempotency-Key", "checkout-456")
+				.content(objectMapper.writeValueAsString(createOrderDTO(1)))
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isCreated());
+
+		mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.header("Idempotency-Key", "checkout-456")
+				.content(objectMapper.writeValueAsString(createOrderDTO(2)))
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.errors[0].fieldName").value("Idempotency-Key"));
+	}
+
+	@Test
+	public void insertAsyncShouldReplayTrackingWhenIdempotencyKeyIsRepeated() throws Exception {
+
+		String today = LocalDate.now(ZoneOffset.UTC).toString();
+		int before = todayQuantity(today);
+		String jsonBody = objectMapper.writeValueAsString(createOrderDTO(3));
+		String[] trackingIds = new String[2];
+
+		for (int i = 0; i < 2; i++) {
+			ResultActions result = mockMvc.perform(post("/orders")
+					.header("Authorization", "Bearer " + clientToken)
+					.header("Prefer", "respond-async")
+					.header("Idempotency-Key", "async-key-1")
+					.content(jsonBody)
+					.contentType(MediaType.APPLICATION_JSON)
+					.accept(MediaType.APPLICATION_JSON));
+
+			result.andExpect(status().isAccepted());
+			trackingIds[i] = JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.trackingId");
+		}
+
+		Assertions.assertEquals(trackingIds[0], trackingIds[1]);
+		Assertions.assertEquals("ACCEPTED", JsonPath.read(awaitTracking(trackingIds[0]), "$.status"));
+		Assertions.assertEquals(before + 3, todayQuantity(today));
+	}
+
+	@Test
+	public void insertShouldAddOrderToSalesRollupOfItsDay() throws Exception {
+
+		String today = LocalDate.now(ZoneOffset.UTC).toString();
+		int before = todayQuantity(today);
+
+		performInsert(createOrderDTO(2)).andExpect(status().isCreated());
+
+		Assertions.assertEquals(before + 2, todayQuantity(today));
+	}
+
+	@Test
+	public void insertShouldCountOrderOnceInCategoryRollupWithoutLoadingCategories() throws Exception {
+
+		String today = LocalDate.now(ZoneOffset.UTC).toString();
+		List<Integer> before = todayCategory(today, 3L);
+
+		statistics.clear();
+		performInsert(createOrderDTO(3)).andExpect(status().isCreated());
+
+		Assertions.assertEquals(0L, statistics.getEntityStatistics(Category.class.getName()).getLoadCount());
+		List<Integer> after = todayCategory(today, 3L);
+		Assertions.assertEquals(before.get(0) + 2, after.get(0));
+		Assertions.assertEquals(before.get(1) + 1, after.get(1));
+	}
+
+	@Test
+	public void insertShouldRecordEveryOrderWhenSameProductIsOrderedConcurrently() throws Exception {
+
+		String today = LocalDate.now(ZoneOffset.UTC).toString();
+		int before = todayQuantity(today);
+		String jsonBody = objectMapper.writeValueAsString(createOrderDTO(1));
+
+		int orders = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(orders);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < orders; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				return mockMvc.perform(post("/orders")
+						.header("Authorization", "Bearer " + clientToken)
+						.content(jsonBody)
+						.contentType(MediaType.APPLICATION_JSON)
+						.accept(MediaType.APPLICATION_JSON))
+						.andReturn().getResponse();
+			}));
+		}
+		start.countDown();
+
+		for (Future<MockHttpServletResponse> future : futures) {
+			Assertions.assertEquals(201, future.get(10, TimeUnit.SECONDS).getStatus());
+		}
+		executor.shutdown();
+
+		Assertions.assertEquals(before + orders, todayQuantity(today));
+	}
+
+	@Test
+	public void updateStatusShouldApplyValidTransitionAndRejectStaleVersion() throws Exception {
+
+		Integer orderId = insertOrder();
+		performRegisterPayment(orderId).andExpect(status().isOk());
+
+		ResultActions result = performUpdateStatus(orderId, "{\"status\": \"SHIPPED\", \"version\": 1}");
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.status").value("SHIPPED"));
+		result.andExpect(jsonPath("$.version").value(2));
+
+		performUpdateStatus(orderId, "{\"status\": \"DELIVERED\", \"version\": 1}")
+				.andExpect(status().isConflict());
+		performUpdateStatus(orderId, "{\"status\": \"CANCELED\"}")
+				.andExpect(status().isConflict());
+	}
+
+	@Test
+	public void updateStatusShouldReturnUnprocessableEntityWhenStatusIsPaid() throws Exception {
+
+		Integer orderId = insertOrder();
+
+		performUpdateStatus(orderId, "{\"status\": \"PAID\"}")
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.errors[0].fieldName").value("status"));
+
+		mockMvc.perform(patch("/orders/status")
+				.header("Authorization", "Bearer " + adminToken)
+				.content("{\"ids\": [" + orderId + "], \"status\": \"PAID\"}")
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isUnprocessableEntity());
+
+		performRegisterPayment(orderId)
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(orderId));
+	}
+
+	@Test
+	public void bulkUpdateStatusShouldMoveOnlyOrdersAllowedToChangeInSingleStatement() throws Exception {
+
+		Integer first = insertOrder();
+		Integer second = insertOrder();
+		performRegisterPayment(first).andExpect(status().isOk());
+
+		statistics.clear();
+
+		ResultActions result = mockMvc.perform(patch("/orders/status")
+				.header("Authorization", "Bearer " + adminToken)
+				.content("{\"ids\": [" + first + ", " + second + "], \"status\": \"SHIPPED\"}")
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.requested").value(2));
+		result.andExpect(jsonPath("$.updated").value(1));
+		Assertions.assertEquals(1L, statistics.getPrepareStatementCount());
+
+		mockMvc.perform(get("/orders/{id}", first)
+				.header("Authorization", "Bearer " + adminToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.status").value("SHIPPED"))
+				.andExpect(jsonPath("$.version").value(2));
+	}
+
+	@Test
+	public void registerPaymentShouldCreateSinglePaymentWhenCallbacksArriveConcurrently() throws Exception {
+
+		int callbacks = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(callbacks);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < callbacks; i++) {
+			futures.add(executor.submit(() -> {
+				start.await();
+				return mockMvc.perform(put("/orders/{id}/payment", 3L)
+						.header("Authorization", "Bearer " + adminToken)
+						.accept(MediaType.APPLICATION_JSON))
+						.andReturn().getResponse();
+			}));
+		}
+		start.countDown();
+
+		Set<String> moments = new HashSet<>();
+		for (Future<MockHttpServletResponse> future : futures) {
+			MockHttpServletResponse response = future.get(10, TimeUnit.SECONDS);
+			Assertions.assertEquals(200, response.getStatus());
+			moments.add(JsonPath.read(response.getContentAsString(), "$.moment"));
+		}
+		executor.shutdown();
+
+		Assertions.assertEquals(1, moments.size());
+		mockMvc.perform(get("/orders/{id}", 3L)
+				.header("Authorization", "Bearer " + adminToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.status").value("PAID"))
+				.andExpect(jsonPath("$.payment.moment").value(moments.iterator().next()))
+				.andExpect(jsonPath("$.version").value(1));
+	}
+
+	private Integer insertOrder() throws Exception {
+		String content = performInsert(createOrderDTO(1))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return JsonPath.read(content, "$.id");
+	}
+
+	private String awaitTracking(String trackingId) throws Exception {
+		String status = "PENDING";
+		String content = null;
+		for (int i = 0; i < 100 && status.equals("PENDING"); i++) {
+			Thread.sleep(50);
+			content = mockMvc.perform(get("/orders/{id}", trackingId)
+					.header("Authorization", "Bearer " + clientToken)
+					.accept(MediaType.APPLICATION_JSON))
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+			status = JsonPath.read(content, "$.status");
+		}
+		return content;
+	}
+
+	private ResultActions performRegisterPayment(Integer orderId) throws Exception {
+		return mockMvc.perform(put("/orders/{id}/payment", orderId)
+				.header("Authorization", "Bearer " + adminToken)
+				.accept(MediaType.APPLICATION_JSON));
+	}
+
+	private ResultActions performUpdateStatus(Integer orderId, String jsonBody) throws Exception {
+		return mockMvc.perform(patch("/orders/{id}/status", orderId)
+				.header("Authorization", "Bearer " + adminToken)
+				.content(jsonBody)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON));
+	}
+
+	private int todayQuantity(String today) throws Exception {
+		String content = mockMvc.perform(get("/reports/sales/days?start={start}&end={end}", today, today)
+				.header("Authorization", "Bearer " + adminToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		List<Integer> quantities = JsonPath.read(content, "$[*].quantity");
+		return quantities.isEmpty() ? 0 : quantities.get(0);
+	}
+
+	private List<Integer> todayCategory(String today, Long categoryId) throws Exception {
+		String content = mockMvc.perform(get("/reports/sales/categories?start={start}&end={end}", today, today)
+				.header("Authorization", "Bearer " + adminToken)
+				.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		List<Integer> quantities = JsonPath.read(content, "$[?(@.id == " + categoryId + ")].quantity");
+		List<Integer> orderCounts = JsonPath.read(content, "$[?(@.id == " + categoryId + ")].orderCount");
+		return quantities.isEmpty() ? List.of(0, 0) : List.of(quantities.get(0), orderCounts.get(0));
+	}
+
+	private ResultActions performInsert(OrderDTO orderDTO) throws Exception {
+		String jsonBody = objectMapper.writeValueAsString(orderDTO);
+		return mockMvc.perform(post("/orders")
+				.header("Authorization", "Bearer " + clientToken)
+				.content(jsonBody)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON));
+	}
+
+	private OrderDTO createOrderDTO(int itemCount) {
+		OrderDTO orderDTO = new OrderDTO(null, Instant.now(), OrderStatus.WAITING_PAYMENT, null, null);
+		for (long productId = 1; productId <= itemCount; productId++) {
+			orderDTO.getItems().add(new OrderItemDTO(productId, "Produto", 10.0, 1, null));
+		}
+		return orderDTO;
+	}
+}
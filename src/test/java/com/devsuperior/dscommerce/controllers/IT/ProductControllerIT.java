@@ -4,9 +4,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +28,7 @@ import com.devsuperior.dscommerce.entities.Category;
 import com.devsuperior.dscommerce.entities.Product;
 import com.devsuperior.dscommerce.tests.TokenUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -101,6 +106,180 @@ public class ProductControllerIT {
 		result.andExpect(jsonPath("$.content[0].price").value(90.5));
 	}
 	
+	@Test
+	public void findByIdShouldReturnNotModifiedWhenETagMatches() throws Exception {
+
+		ResultActions first = mockMvc.perform(get("/products/{id}", existingId)
+				.accept(MediaType.APPLICATION_JSON));
+
+		first.andExpect(status().isOk());
+		first.andExpect(header().exists("ETag"));
+
+		String etag = first.andReturn().getResponse().getHeader("ETag");
+
+		ResultActions result = mockMvc.perform(get("/products/{id}", existingId)
+				.header("If-None-Match", etag)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isNotModified());
+	}
+
+	@Test
+	public void findAllByIdsShouldReturnProductsWithCategoriesInRequestedOrder() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products?ids=3,1000,2")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.length()").value(2));
+		result.andExpect(jsonPath("$[0].id").value(3L));
+		result.andExpect(jsonPath("$[0].categories[0].id").value(3L));
+		result.andExpect(jsonPath("$[1].id").value(2L));
+		result.andExpect(jsonPath("$[1].categories.length()").value(2));
+	}
+
+	@Test
+	public void findAllByIdsShouldTakePrecedenceOverWithTotal() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products?ids=3,2&withTotal=false")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.length()").value(2));
+		result.andExpect(jsonPath("$[0].id").value(3L));
+	}
+
+	@Test
+	public void findAllByIdsShouldReturnBadRequestWhenIdsExceedMaximum() throws Exception {
+
+		String ids = LongStream.rangeClosed(1, 101).mapToObj(String::valueOf).collect(Collectors.joining(","));
+
+		ResultActions result = mockMvc.perform(get("/products?ids={ids}", ids)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void findAllShouldReturnSliceWithoutTotalWhenWithTotalIsFalse() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products?withTotal=false&size=2")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.content[0].id").value(1L));
+		result.andExpect(jsonPath("$.last").value(false));
+		result.andExpect(jsonPath("$.totalElements").doesNotExist());
+	}
+
+	@Test
+	public void findAllByCursorShouldReturnNextPageFromCursor() throws Exception {
+
+		ResultActions first = mockMvc.perform(get("/products?cursor=&size=2")
+				.accept(MediaType.APPLICATION_JSON));
+
+		first.andExpect(status().isOk());
+		first.andExpect(jsonPath("$.content[0].id").value(1L));
+		first.andExpect(jsonPath("$.content[1].id").value(2L));
+		first.andExpect(jsonPath("$.next").exists());
+
+		String next = JsonPath.read(first.andReturn().getResponse().getContentAsString(), "$.next");
+
+		ResultActions result = mockMvc.perform(get("/products?size=2&cursor={cursor}", next)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.content[0].id").value(3L));
+		result.andExpect(jsonPath("$.content[1].id").value(4L));
+	}
+
+	@Test
+	public void findAllShouldApplyCategoryFilterToSliceAndCursor() throws Exception {
+
+		ResultActions slice = mockMvc.perform(get("/products?withTotal=false&categoryId=1&size=2")
+				.accept(MediaType.APPLICATION_JSON));
+
+		slice.andExpect(status().isOk());
+		slice.andExpect(jsonPath("$.content.length()").value(2));
+		slice.andExpect(jsonPath("$.content[0].id").value(1L));
+		slice.andExpect(jsonPath("$.content[1].id").value(5L));
+		slice.andExpect(jsonPath("$.last").value(true));
+
+		ResultActions first = mockMvc.perform(get("/products?cursor=&categoryId=1&size=1")
+				.accept(MediaType.APPLICATION_JSON));
+
+		first.andExpect(status().isOk());
+		first.andExpect(jsonPath("$.content[0].id").value(1L));
+
+		String next = JsonPath.read(first.andReturn().getResponse().getContentAsString(), "$.next");
+
+		ResultActions result = mockMvc.perform(get("/products?categoryId=1&size=1&cursor={cursor}", next)
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.content[0].id").value(5L));
+	}
+
+	@Test
+	public void findAllShouldReturnFilteredPageWhenCategoryAndPriceAreInformed() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products?categoryId=3&minPrice=2300&maxPrice=2400")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.totalElements").value(2));
+		result.andExpect(jsonPath("$.content[0].id").value(16L));
+		result.andExpect(jsonPath("$.content[1].id").value(24L));
+	}
+
+	@Test
+	public void findFacetsShouldReturnCategoryCountsAndPriceBuckets() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products/facets?categoryId=1")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.categories.length()").value(3));
+		result.andExpect(jsonPath("$.categories[0].id").value(1L));
+		result.andExpect(jsonPath("$.categories[0].count").value(2));
+		result.andExpect(jsonPath("$.categories[2].count").value(23));
+		result.andExpect(jsonPath("$.prices.length()").value(1));
+		result.andExpect(jsonPath("$.prices[0].min").value(0.0));
+		result.andExpect(jsonPath("$.prices[0].count").value(2));
+	}
+
+	@Test
+	public void findFacetsShouldReturnBadRequestWhenPriceBucketWidthIsNotPositive() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products/facets?priceBucketWidth=0")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void findSuggestionsShouldReturnNamesStartingWithPrefixInAlphabeticalOrder() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products/suggest?prefix=pc gamer&limit=3")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.length()").value(3));
+		result.andExpect(jsonPath("$[0].id").value(4L));
+		result.andExpect(jsonPath("$[0].name").value("PC Gamer"));
+		result.andExpect(jsonPath("$[1].name").value("PC Gamer Alfa"));
+		result.andExpect(jsonPath("$[2].name").value("PC Gamer Boo"));
+	}
+
+	@Test
+	public void findAllByCursorShouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+
+		ResultActions result = mockMvc.perform(get("/products?cursor=xpto")
+				.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isBadRequest());
+	}
+
 	@Test
 	public void insertShouldReturnProductDTOValidateDateWhenLoggedAdmin() throws Exception {
 		
@@ -0,0 +1,108 @@
+package com.devsuperior.dscommerce.controllers.IT;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.devsuperior.dscommerce.tests.TokenUtil;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ReportControllerIT {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUtil tokenUtil;
+
+	private String clientToken, adminToken;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		clientToken = tokenUtil.obtainAccessToken(mockMvc, "maria@gmail.com", "123456");
+		adminToken = tokenUtil.obtainAccessToken(mockMvc, "alex@gmail.com", "123456");
+	}
+
+	@Test
+	public void findByProductShouldReturnRevenueOfPeriodOrderedByRevenueWhenAdminLogged() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/reports/sales/products?start=2022-07-01&end=2022-07-31")
+					.header("Authorization", "Bearer " + adminToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.length()").value(2));
+		result.andExpect(jsonPath("$[0].id").value(3L));
+		result.andExpect(jsonPath("$[0].name").value("Macbook Pro"));
+		result.andExpect(jsonPath("$[0].quantity").value(2L));
+		result.andExpect(jsonPath("$[0].revenue").value(2500.0));
+		result.andExpect(jsonPath("$[0].orderCount").value(2L));
+		result.andExpect(jsonPath("$[1].id").value(1L));
+		result.andExpect(jsonPath("$[1].revenue").value(181.0));
+	}
+
+	@Test
+	public void findByCategoryShouldReturnRevenueOfPeriodWhenAdminLogged() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/reports/sales/categories?start=2022-08-01&end=2022-08-31")
+					.header("Authorization", "Bearer " + adminToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.length()").value(1));
+		result.andExpect(jsonPath("$[0].id").value(1L));
+		result.andExpect(jsonPath("$[0].name").value("Livros"));
+		result.andExpect(jsonPath("$[0].revenue").value(90.5));
+	}
+
+	@Test
+	public void findByDayShouldReturnOneRowPerDayWhenAdminLogged() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/reports/sales/days?start=2022-07-01&end=2022-07-31")
+					.header("Authorization", "Bearer " + adminToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.length()").value(2));
+		result.andExpect(jsonPath("$[0].date").value("2022-07-25"));
+		result.andExpect(jsonPath("$[0].quantity").value(3L));
+		result.andExpect(jsonPath("$[0].revenue").value(1431.0));
+		result.andExpect(jsonPath("$[1].date").value("2022-07-29"));
+	}
+
+	@Test
+	public void findByDayShouldReturnBadRequestWhenStartIsAfterEnd() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/reports/sales/days?start=2022-08-01&end=2022-07-01")
+					.header("Authorization", "Bearer " + adminToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void findByProductShouldReturnForbiddenWhenClientLogged() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/reports/sales/products?start=2022-07-01&end=2022-07-31")
+					.header("Authorization", "Bearer " + clientToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isForbidden());
+	}
+}
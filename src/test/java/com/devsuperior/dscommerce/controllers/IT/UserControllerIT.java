@@ -4,6 +4,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 
 import com.devsuperior.dscommerce.tests.TokenUtil;
+import com.jayway.jsonpath.JsonPath;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -85,4 +87,60 @@ public class UserControllerIT {
 		
 		result.andExpect(status().isUnauthorized());
 	}
+
+	@Test
+	public void findMyOrdersShouldReturnOrderSummariesOfLoggedUser() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/users/me/orders")
+					.header("Authorization", "Bearer " + adminToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.content.length()").value(1));
+		result.andExpect(jsonPath("$.content[0].id").value(2L));
+		result.andExpect(jsonPath("$.content[0].status").value("DELIVERED"));
+		result.andExpect(jsonPath("$.content[0].total").value(1250.0));
+		result.andExpect(jsonPath("$.content[0].itemCount").value(1));
+		result.andExpect(jsonPath("$.next").doesNotExist());
+	}
+
+	@Test
+	public void findMyOrdersShouldReturnNextPageFromCursorOrderedByMomentDescending() throws Exception {
+
+		ResultActions first =
+				mockMvc.perform(get("/users/me/orders?size=1")
+					.header("Authorization", "Bearer " + clientToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		first.andExpect(status().isOk());
+		first.andExpect(jsonPath("$.content.length()").value(1));
+		first.andExpect(jsonPath("$.next").exists());
+
+		String content = first.andReturn().getResponse().getContentAsString();
+		String next = JsonPath.read(content, "$.next");
+		String firstMoment = JsonPath.read(content, "$.content[0].moment");
+
+		ResultActions result =
+				mockMvc.perform(get("/users/me/orders?size=1&cursor={cursor}", next)
+					.header("Authorization", "Bearer " + clientToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isOk());
+		result.andExpect(jsonPath("$.content.length()").value(1));
+
+		String secondMoment = JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.content[0].moment");
+		Assertions.assertTrue(secondMoment.compareTo(firstMoment) < 0);
+	}
+
+	@Test
+	public void findMyOrdersShouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+
+		ResultActions result =
+				mockMvc.perform(get("/users/me/orders?cursor=xpto")
+					.header("Authorization", "Bearer " + clientToken)
+					.accept(MediaType.APPLICATION_JSON));
+
+		result.andExpect(status().isBadRequest());
+	}
 }
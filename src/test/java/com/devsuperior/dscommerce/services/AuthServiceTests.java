@@ -36,7 +36,7 @@ public class AuthServiceTests {
 	@Test
 	public void validateSelfOrAdminShouldDoNothingWhenAdminLogged() {
 
-		Mockito.when(userService.authenticated()).thenReturn(admin);
+		Mockito.when(userService.loggedUser()).thenReturn(UserFactory.createLoggedUser(admin));
 
 		Long userId = admin.getId();
 
@@ -47,7 +47,7 @@ public class AuthServiceTests {
 
 	@Test
 	public void validateSelfOrAdminShouldDoNothingWhenSelfLogged() {
-		Mockito.when(userService.authenticated()).thenReturn(selfClient);
+		Mockito.when(userService.loggedUser()).thenReturn(UserFactory.createLoggedUser(selfClient));
 
 		Long userId = selfClient.getId();
 
@@ -58,7 +58,7 @@ public class AuthServiceTests {
 	
 	@Test
 	public void validateSelfOrAdminThrowsForbiddenExceptionWhenOtherClientsOthersLogged() {
-		Mockito.when(userService.authenticated()).thenReturn(selfClient);
+		Mockito.when(userService.loggedUser()).thenReturn(UserFactory.createLoggedUser(selfClient));
 		
 		Long userId = otherClient.getId();
 		
@@ -0,0 +1,49 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscommerce.dto.CacheStatsDTO;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+public class CacheServiceTests {
+
+	private CacheService service;
+
+	private Cache cache;
+
+	@BeforeEach
+	void setup() throws Exception {
+
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache("products", Caffeine.newBuilder().maximumSize(10).recordStats().build());
+
+		service = new CacheService();
+		ReflectionTestUtils.setField(service, "cacheManager", cacheManager);
+
+		cache = cacheManager.getCache("products");
+	}
+
+	@Test
+	public void findAllStatsShouldReturnHitAndMissCounters() {
+
+		cache.get(1L);
+		cache.put(1L, "PS5");
+		cache.get(1L);
+		cache.get(1L);
+
+		List<CacheStatsDTO> result = service.findAllStats();
+
+		Assertions.assertEquals(result.size(), 1);
+		Assertions.assertEquals(result.get(0).getName(), "products");
+		Assertions.assertEquals(result.get(0).getSize(), 1L);
+		Assertions.assertEquals(result.get(0).getHitCount(), 2L);
+		Assertions.assertEquals(result.get(0).getMissCount(), 1L);
+	}
+}
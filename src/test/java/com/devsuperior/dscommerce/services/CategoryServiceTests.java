@@ -1,7 +1,9 @@
 package com.devsuperior.dscommerce.services;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,12 +12,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.devsuperior.dscommerce.dto.CategoryDTO;
 import com.devsuperior.dscommerce.entities.Category;
 import com.devsuperior.dscommerce.repositories.CategoryRepository;
 import com.devsuperior.dscommerce.tests.CategoryFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(SpringExtension.class)
 public class CategoryServiceTests {
@@ -25,6 +29,12 @@ public class CategoryServiceTests {
 	
 	@Mock
 	private CategoryRepository repository;
+
+	@Mock
+	private CatalogVersion catalogVersion;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
 	
 	private Category category;
 	private List<Category> list;
@@ -37,6 +47,7 @@ public class CategoryServiceTests {
 		list.add(category);
 		
 		Mockito.when(repository.findAll()).thenReturn(list);
+		Mockito.when(catalogVersion.getVersion()).thenReturn(0L);
 		
 	}
 	
@@ -50,5 +61,40 @@ public class CategoryServiceTests {
 		Assertions.assertEquals(result.get(0).getName(), category.getName());
 		
 	}
+
+	@Test
+	public void findSnapshotShouldReuseSnapshotWhileCatalogVersionIsUnchanged() {
+
+		CategorySnapshot first = service.findSnapshot();
+		CategorySnapshot second = service.findSnapshot();
+
+		Assertions.assertSame(first, second);
+		Mockito.verify(repository, Mockito.times(1)).findAll();
+	}
+
+	@Test
+	public void findSnapshotShouldRebuildSnapshotWhenCatalogVersionChanges() {
+
+		CategorySnapshot first = service.findSnapshot();
+		Mockito.when(catalogVersion.getVersion()).thenReturn(1L);
+		CategorySnapshot second = service.findSnapshot();
+
+		Assertions.assertNotSame(first, second);
+		Assertions.assertEquals(second.getVersion(), 1L);
+	}
+
+	@Test
+	public void findSnapshotShouldHoldJsonAndGzipOfTheSameList() throws Exception {
+
+		CategorySnapshot result = service.findSnapshot();
+
+		byte[] unzipped;
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(result.getGzip()))) {
+			unzipped = in.readAllBytes();
+		}
+
+		Assertions.assertArrayEquals(result.getJson(), unzipped);
+		Assertions.assertArrayEquals(result.getJson(), objectMapper.writeValueAsBytes(result.getCategories()));
+	}
 	
 }
@@ -0,0 +1,195 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingStatus;
+import com.devsuperior.dscommerce.dto.OrderItemDTO;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
+import com.devsuperior.dscommerce.services.exceptions.ConflictException;
+import com.devsuperior.dscommerce.services.exceptions.InvalidDataException;
+import com.devsuperior.dscommerce.tests.OrderFactory;
+import com.devsuperior.dscommerce.tests.UserFactory;
+import com.devsuperior.dscommerce.utils.CustomUserUtil;
+
+@ExtendWith(SpringExtension.class)
+public class OrderIdempotencyStoreTests {
+
+	@InjectMocks
+	private OrderIdempotencyStore store;
+
+	@Mock
+	private CustomUserUtil customUserUtil;
+
+	private OrderDTO orderDTO;
+	private AtomicInteger executions;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		ReflectionTestUtils.setField(store, "ttlSeconds", 60L);
+		ReflectionTestUtils.setField(store, "maximumSize", 100L);
+		ReflectionTestUtils.setField(store, "waitTimeoutSeconds", 1L);
+		store.init();
+
+		orderDTO = new OrderDTO(OrderFactory.createOrder(UserFactory.createClientUser()));
+		executions = new AtomicInteger();
+
+		Mockito.when(customUserUtil.getLoggedUsername()).thenReturn("maria@gmail.com");
+	}
+
+	@Test
+	public void executeShouldReplayResultWhenKeyIsRepeated() {
+
+		OrderDTO first = store.execute("key-1", orderDTO, () -> insert());
+		OrderDTO second = store.execute("key-1", orderDTO, () -> insert());
+
+		Assertions.assertSame(first, second);
+		Assertions.assertEquals(executions.get(), 1);
+	}
+
+	@Test
+	public void executeAsyncShouldReplayTrackingAndKeepKeysApartFromSyncSubmits() {
+
+		OrderTrackingDTO first = store.executeAsync("key-1", orderDTO, () -> submit());
+		OrderTrackingDTO second = store.executeAsync("key-1", orderDTO, () -> submit());
+		store.execute("key-1", orderDTO, () -> insert());
+
+		Assertions.assertSame(first, second);
+		Assertions.assertEquals(executions.get(), 2);
+	}
+
+	@Test
+	public void executeShouldRunAgainWhenKeyBelongsToOtherClient() {
+
+		store.execute("key-1", orderDTO, () -> insert());
+		Mockito.when(customUserUtil.getLoggedUsername()).thenReturn("alex@gmail.com");
+		store.execute("key-1", orderDTO, () -> insert());
+
+		Assertions.assertEquals(executions.get(), 2);
+	}
+
+	@Test
+	public void executeShouldBlockConcurrentDuplicateUntilFirstAttemptCompletes() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<OrderDTO> first = executor.submit(() -> store.execute("key-1", orderDTO, () -> {
+				started.countDown();
+				await(release);
+				return insert();
+			}));
+			started.await(5, TimeUnit.SECONDS);
+			Future<OrderDTO> second = executor.submit(() -> store.execute("key-1", orderDTO, () -> insert()));
+
+			Thread.sleep(100);
+			Assertions.assertFalse(second.isDone());
+
+			release.countDown();
+
+			Assertions.assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+			Assertions.assertEquals(executions.get(), 1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void executeShouldThrowInvalidDataExceptionWhenKeyIsReusedWithOtherItems() {
+
+		store.execute("key-1", orderDTO, () -> insert());
+
+		OrderDTO otherOrder = new OrderDTO(null, null, null, null, null);
+		otherOrder.getItems().add(new OrderItemDTO(orderDTO.getItems().get(0).getProductId(), "Produto", 10.0, 5, null));
+
+		Assertions.assertThrows(InvalidDataException.class, () -> {
+			store.execute("key-1", otherOrder, () -> insert());
+		});
+		Assertions.assertEquals(executions.get(), 1);
+	}
+
+	@Test
+	public void executeShouldThrowConflictExceptionWhenFirstAttemptDoesNotCompleteInTime() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> store.execute("key-1", orderDTO, () -> {
+				started.countDown();
+				await(release);
+				return insert();
+			}));
+			started.await(5, TimeUnit.SECONDS);
+
+			Assertions.assertThrows(ConflictException.class, () -> {
+				store.execute("key-1", orderDTO, () -> insert());
+			});
+		}
+		finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void executeShouldForgetFailedAttempt() {
+
+		Assertions.assertThrows(InvalidDataException.class, () -> {
+			store.execute("key-1", orderDTO, () -> {
+				throw new InvalidDataException("Dados inválidos");
+			});
+		});
+
+		store.execute("key-1", orderDTO, () -> insert());
+
+		Assertions.assertEquals(executions.get(), 1);
+	}
+
+	@Test
+	public void executeShouldThrowBadRequestExceptionWhenKeyIsBlank() {
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			store.execute(" ", orderDTO, () -> insert());
+		});
+	}
+
+	private OrderDTO insert() {
+		executions.incrementAndGet();
+		return orderDTO;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private OrderTrackingDTO submit() {
+		executions.incrementAndGet();
+		return new OrderTrackingDTO(UUID.randomUUID().toString(), OrderTrackingStatus.PENDING, null, null);
+	}
+}
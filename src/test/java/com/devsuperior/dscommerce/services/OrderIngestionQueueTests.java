@@ -0,0 +1,131 @@
+package com.devsuperior.dscommerce.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingDTO;
+import com.devsuperior.dscommerce.dto.OrderTrackingStatus;
+import com.devsuperior.dscommerce.entities.Order;
+import com.devsuperior.dscommerce.entities.User;
+import com.devsuperior.dscommerce.services.exceptions.InvalidDataException;
+import com.devsuperior.dscommerce.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscommerce.services.exceptions.ServiceUnavailableException;
+import com.devsuperior.dscommerce.tests.OrderFactory;
+import com.devsuperior.dscommerce.tests.UserFactory;
+import com.devsuperior.dscommerce.utils.CustomUserUtil;
+
+@ExtendWith(SpringExtension.class)
+public class OrderIngestionQueueTests {
+
+	@InjectMocks
+	private OrderIngestionQueue ingestionQueue;
+
+	@Mock
+	private OrderService orderService;
+
+	@Mock
+	private CustomUserUtil customUserUtil;
+
+	private String username;
+	private OrderDTO orderDTO;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		username = "maria@gmail.com";
+		User client = UserFactory.createCustomClientUser(1L, username);
+		Order order = OrderFactory.createOrder(client);
+		orderDTO = new OrderDTO(order);
+
+		ReflectionTestUtils.setField(ingestionQueue, "queueCapacity", 1);
+		ReflectionTestUtils.setField(ingestionQueue, "batchSize", 10);
+		ReflectionTestUtils.setField(ingestionQueue, "trackingTtlSeconds", 60L);
+		ReflectionTestUtils.setField(ingestionQueue, "maxTracked", 100L);
+
+		Mockito.when(customUserUtil.getLoggedUser()).thenReturn(UserFactory.createLoggedUser(client));
+		Mockito.when(customUserUtil.getLoggedUsername()).thenReturn(username);
+		Mockito.when(orderService.insertAll(any())).thenReturn(List.of(orderDTO));
+
+		ingestionQueue.start();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		ingestionQueue.stop();
+	}
+
+	@Test
+	public void submitShouldReturnPendingTrackingAndWriterShouldAcceptOrder() throws Exception {
+
+		OrderTrackingDTO result = ingestionQueue.submit(orderDTO);
+
+		Assertions.assertEquals(result.getStatus(), OrderTrackingStatus.PENDING);
+
+		OrderTrackingDTO tracking = awaitTracking(result.getTrackingId());
+
+		Assertions.assertEquals(tracking.getStatus(), OrderTrackingStatus.ACCEPTED);
+		Assertions.assertEquals(tracking.getOrderId(), orderDTO.getId());
+	}
+
+	@Test
+	public void submitShouldThrowServiceUnavailableExceptionWhenQueueIsFull() throws Exception {
+
+		ingestionQueue.stop();
+
+		ingestionQueue.submit(orderDTO);
+
+		Assertions.assertThrows(ServiceUnavailableException.class, () -> {
+			ingestionQueue.submit(orderDTO);
+		});
+	}
+
+	@Test
+	public void writeBatchShouldRetryOrdersOneByOneWhenBatchFails() {
+
+		PendingOrder valid = new PendingOrder("a", 1L, username, orderDTO);
+		PendingOrder invalid = new PendingOrder("b", 1L, username, orderDTO);
+
+		Mockito.when(orderService.insertAll(argThat(x -> x != null && x.size() == 2))).thenThrow(new InvalidDataException("Dados inválidos"));
+		Mockito.when(orderService.insertAll(List.of(invalid))).thenThrow(new InvalidDataException("Dados inválidos"));
+
+		ingestionQueue.writeBatch(List.of(valid, invalid));
+
+		Assertions.assertEquals(ingestionQueue.findTracking("a").getStatus(), OrderTrackingStatus.ACCEPTED);
+		Assertions.assertEquals(ingestionQueue.findTracking("b").getStatus(), OrderTrackingStatus.REJECTED);
+	}
+
+	@Test
+	public void findTrackingShouldThrowResourceNotFoundExceptionWhenOtherUserLogged() {
+
+		OrderTrackingDTO result = ingestionQueue.submit(orderDTO);
+
+		Mockito.when(customUserUtil.getLoggedUsername()).thenReturn("alex@gmail.com");
+
+		Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+			ingestionQueue.findTracking(result.getTrackingId());
+		});
+	}
+
+	private OrderTrackingDTO awaitTracking(String trackingId) throws InterruptedException {
+		OrderTrackingDTO tracking = ingestionQueue.findTracking(trackingId);
+		for (int i = 0; i < 100 && tracking.getStatus() == OrderTrackingStatus.PENDING; i++) {
+			Thread.sleep(50);
+			tracking = ingestionQueue.findTracking(trackingId);
+		}
+		return tracking;
+	}
+}
@@ -1,9 +1,14 @@
 package com.devsuperior.dscommerce.services;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
-import java.util.ArrayList;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,24 +17,34 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import com.devsuperior.dscommerce.dto.CursorPageDTO;
 import com.devsuperior.dscommerce.dto.OrderDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusBulkDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusBulkResultDTO;
+import com.devsuperior.dscommerce.dto.OrderStatusDTO;
+import com.devsuperior.dscommerce.dto.OrderSummaryDTO;
+import com.devsuperior.dscommerce.dto.PaymentDTO;
 import com.devsuperior.dscommerce.entities.Order;
 import com.devsuperior.dscommerce.entities.OrderItem;
+import com.devsuperior.dscommerce.entities.OrderStatus;
 import com.devsuperior.dscommerce.entities.Product;
 import com.devsuperior.dscommerce.entities.User;
-import com.devsuperior.dscommerce.repositories.OrderItemRepository;
 import com.devsuperior.dscommerce.repositories.OrderRepository;
+import com.devsuperior.dscommerce.repositories.PaymentRepository;
 import com.devsuperior.dscommerce.repositories.ProductRepository;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
+import com.devsuperior.dscommerce.services.exceptions.ConflictException;
 import com.devsuperior.dscommerce.services.exceptions.ForbiddenException;
+import com.devsuperior.dscommerce.services.exceptions.InvalidDataException;
 import com.devsuperior.dscommerce.services.exceptions.ResourceNotFoundException;
 import com.devsuperior.dscommerce.tests.OrderFactory;
 import com.devsuperior.dscommerce.tests.ProductFactory;
 import com.devsuperior.dscommerce.tests.UserFactory;
-
-import jakarta.persistence.EntityNotFoundException;
+import com.devsuperior.dscommerce.utils.CursorUtil;
 
 @ExtendWith(SpringExtension.class)
 public class OrderServiceTests {
@@ -47,10 +62,13 @@ public class OrderServiceTests {
 	private ProductRepository productRepository;
 
 	@Mock
-	private OrderItemRepository orderItemRepository;
+	private UserService userService;
 
 	@Mock
-	private UserService userService;
+	private SalesReportService salesReportService;
+
+	@Mock
+	private PaymentRepository paymentRepository;
 
 	private Long existingOrderId, nonExistingOrderId;
 	private Long existingProductId, nonExistingProductId;
@@ -77,15 +95,14 @@ public class OrderServiceTests {
 		product = ProductFactory.createProduct();
 		product.setId(existingProductId);
 
-		Mockito.when(repository.findById(existingOrderId)).thenReturn(Optional.of(order));
-		Mockito.when(repository.findById(nonExistingOrderId)).thenReturn(Optional.empty());
+		Mockito.when(repository.searchWithItemsById(existingOrderId)).thenReturn(Optional.of(order));
+		Mockito.when(repository.searchWithItemsById(nonExistingOrderId)).thenReturn(Optional.empty());
 
-		Mockito.when(productRepository.getReferenceById(existingProductId)).thenReturn(product);
-		Mockito.when(productRepository.getReferenceById(nonExistingProductId)).thenThrow(EntityNotFoundException.class);
+		Mockito.when(productRepository.findAllById(any())).thenReturn(List.of(ProductFactory.createProduct()));
 
 		Mockito.when(repository.save(any())).thenReturn(order);
 
-		Mockito.when(orderItemRepository.saveAll(any())).thenReturn(new ArrayList<>(order.getItems()));
+		Mockito.when(userService.loggedUser()).thenReturn(UserFactory.createLoggedUser(client));
 
 	}
 
@@ -131,10 +148,48 @@ public class OrderServiceTests {
 		});
 	}
 
+	@Test
+	public void findMyOrdersShouldReturnNextCursorWhenThereAreMoreOrders() {
+
+		Mockito.when(userService.loggedUser()).thenReturn(UserFactory.createLoggedUser(client));
+		OrderSummaryDTO summary = new OrderSummaryDTO(existingOrderId, order.getMoment(), order.getStatus(), new BigDecimal("20.00"), 1);
+		Mockito.when(repository.searchSummariesByClient(eq(client.getId()), any())).thenReturn(List.of(summary, summary));
+
+		CursorPageDTO<OrderSummaryDTO> result = service.findMyOrders("", PageRequest.of(0, 1));
+
+		Assertions.assertEquals(result.getContent().size(), 1);
+		Assertions.assertNotNull(result.getNext());
+	}
+
+	@Test
+	public void findMyOrdersShouldThrowBadRequestExceptionWhenCursorIsInvalid() {
+
+		Mockito.when(userService.loggedUser()).thenReturn(UserFactory.createLoggedUser(client));
+		String cursor = CursorUtil.encode("xpto", "1");
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findMyOrders(cursor, PageRequest.of(0, 1));
+		});
+	}
+
+	@Test
+	public void findMyOrdersShouldThrowBadRequestExceptionWhenCursorIsNotBase64OrMissesValues() {
+
+		Mockito.when(userService.loggedUser()).thenReturn(UserFactory.createLoggedUser(client));
+		String missingValues = CursorUtil.encode("2022-07-25T13:00:00Z");
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findMyOrders("not*base64", PageRequest.of(0, 1));
+		});
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findMyOrders(missingValues, PageRequest.of(0, 1));
+		});
+	}
+
 	@Test
 	public void insertShouldOrderDTOWhenAdminLogged() {
 
-		Mockito.when(userService.authenticated()).thenReturn(admin);
+		Mockito.when(userService.authenticatedReference()).thenReturn(admin);
 
 		OrderDTO result = service.insert(orderDTO);
 
@@ -144,17 +199,45 @@ public class OrderServiceTests {
 	@Test
 	public void insertShouldOrderDTOWhenClientLogged() {
 
-		Mockito.when(userService.authenticated()).thenReturn(client);
+		Mockito.when(userService.authenticatedReference()).thenReturn(client);
 
 		OrderDTO result = service.insert(orderDTO);
 
 		Assertions.assertNotNull(result);
 	}
 
+	@Test
+	public void insertShouldStoreExactTotalOfItems() {
+
+		Mockito.when(userService.authenticatedReference()).thenReturn(client);
+
+		OrderDTO result = service.insert(orderDTO);
+
+		Assertions.assertEquals(result.getTotal(), new BigDecimal("7998.00"));
+	}
+
+	@Test
+	public void insertAllShouldInsertEveryPendingOrderWithSharedProductQuery() {
+
+		Mockito.when(userService.getReference(client.getId())).thenReturn(client);
+
+		List<PendingOrder> pendings = List.of(
+				new PendingOrder("a", client.getId(), client.getEmail(), orderDTO),
+				new PendingOrder("b", client.getId(), client.getEmail(), orderDTO));
+
+		List<OrderDTO> result = service.insertAll(pendings);
+
+		Assertions.assertEquals(result.size(), 2);
+		Mockito.verify(productRepository, Mockito.times(1)).findAllById(any());
+		Mockito.verify(userService, Mockito.times(1)).getReference(client.getId());
+		Mockito.verify(repository, Mockito.times(2)).save(any());
+		Mockito.verify(salesReportService, Mockito.times(1)).recordInserted(any());
+	}
+
 	@Test
 	public void insertShouldThorwsUsernameNotFoundExceptionWhenUserNotLogged() {
 
-		Mockito.doThrow(UsernameNotFoundException.class).when(userService).authenticated();
+		Mockito.doThrow(UsernameNotFoundException.class).when(userService).authenticatedReference();
 
 		order.setClient(new User());
 		orderDTO = new OrderDTO(order);
@@ -168,9 +251,9 @@ public class OrderServiceTests {
 	}
 
 	@Test
-	public void insertShouldThrowsEntityNotFoundExceptionWhenOrderProductIdDoesNotExists() {
+	public void insertShouldThrowsInvalidDataExceptionWhenOrderProductIdDoesNotExists() {
 
-		Mockito.when(userService.authenticated()).thenReturn(client);
+		Mockito.when(userService.authenticatedReference()).thenReturn(client);
 
 		product.setId(nonExistingProductId);
 		OrderItem orderitem = new OrderItem(order, product, 2, 10.0);
@@ -178,11 +261,146 @@ public class OrderServiceTests {
 
 		orderDTO = new OrderDTO(order);
 
-		Assertions.assertThrows(EntityNotFoundException.class, () -> {
+		InvalidDataException exception = Assertions.assertThrows(InvalidDataException.class, () -> {
 
 			@SuppressWarnings("unused")
 			OrderDTO result = service.insert(orderDTO);
 
 		});
+		Assertions.assertEquals(exception.getErrors().size(), 1);
+		Assertions.assertTrue(exception.getErrors().get(0).getFieldName().endsWith(".productId"));
+		Mockito.verify(repository, Mockito.never()).save(any());
+	}
+
+	@Test
+	public void insertShouldResolveAllProductsWithSingleQuery() {
+
+		Mockito.when(userService.authenticatedReference()).thenReturn(client);
+
+		OrderDTO result = service.insert(orderDTO);
+
+		Assertions.assertEquals(result.getItems().get(0).getPrice(), 3999.0);
+		Mockito.verify(productRepository, Mockito.times(1)).findAllById(any());
+		Mockito.verify(productRepository, Mockito.never()).getReferenceById(any());
+	}
+
+	@Test
+	public void updateStatusShouldChangeStatusAndRecordRollupWhenTransitionIsValid() {
+
+		OrderDTO result = service.updateStatus(existingOrderId, new OrderStatusDTO(OrderStatus.CANCELED, null));
+
+		Assertions.assertEquals(result.getStatus(), OrderStatus.CANCELED);
+		Mockito.verify(salesReportService).recordStatusChange(order, OrderStatus.WAITING_PAYMENT);
+		Mockito.verify(repository).saveAndFlush(order);
+	}
+
+	@Test
+	public void updateStatusShouldThrowConflictExceptionWhenTransitionIsInvalid() {
+
+		Assertions.assertThrows(ConflictException.class, () -> {
+			service.updateStatus(existingOrderId, new OrderStatusDTO(OrderStatus.DELIVERED, null));
+		});
+		Mockito.verify(repository, Mockito.never()).saveAndFlush(any());
+	}
+
+	@Test
+	public void updateStatusShouldThrowConflictExceptionWhenVersionDoesNotMatch() {
+
+		Assertions.assertThrows(ConflictException.class, () -> {
+			service.updateStatus(existingOrderId, new OrderStatusDTO(OrderStatus.CANCELED, 5));
+		});
+		Mockito.verify(repository, Mockito.never()).saveAndFlush(any());
+	}
+
+	@Test
+	public void updateStatusShouldThrowResourceNotFoundExceptionWhenIdDoesNotExist() {
+
+		Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+			service.updateStatus(nonExistingOrderId, new OrderStatusDTO(OrderStatus.CANCELED, null));
+		});
+	}
+
+	@Test
+	public void updateStatusShouldThrowInvalidDataExceptionWhenStatusIsPaid() {
+
+		Assertions.assertThrows(InvalidDataException.class, () -> {
+			service.updateStatus(existingOrderId, new OrderStatusDTO(OrderStatus.PAID, null));
+		});
+		Assertions.assertThrows(InvalidDataException.class, () -> {
+			service.updateStatus(new OrderStatusBulkDTO(List.of(1L), OrderStatus.PAID));
+		});
+		Mockito.verify(repository, Mockito.never()).saveAndFlush(any());
+		Mockito.verify(repository, Mockito.never()).updateStatus(any(), any(), any());
+		Mockito.verify(salesReportService, Mockito.never()).recordStatusChange(any(), any());
+	}
+
+	@Test
+	public void bulkUpdateStatusShouldRunSingleUpdateFromAllowedStatuses() {
+
+		Mockito.when(repository.updateStatus(Set.of(1L, 2L), EnumSet.of(OrderStatus.PAID), OrderStatus.SHIPPED)).thenReturn(1);
+
+		OrderStatusBulkResultDTO result = service.updateStatus(new OrderStatusBulkDTO(List.of(1L, 2L, 2L), OrderStatus.SHIPPED));
+
+		Assertions.assertEquals(result.getRequested(), 2);
+		Assertions.assertEquals(result.getUpdated(), 1);
+		Mockito.verify(repository, Mockito.times(1)).updateStatus(any(), any(), any());
+	}
+
+	@Test
+	public void bulkUpdateStatusShouldThrowBadRequestExceptionWhenStatusIsCanceled() {
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.updateStatus(new OrderStatusBulkDTO(List.of(1L), OrderStatus.CANCELED));
+		});
+		Mockito.verify(repository, Mockito.never()).updateStatus(any(), any(), any());
+	}
+
+	@Test
+	public void registerPaymentShouldReturnExistingPaymentWithoutUpdateWhenOrderAlreadyPaid() {
+
+		PaymentDTO payment = new PaymentDTO(existingOrderId, Instant.now());
+		Mockito.when(paymentRepository.searchByOrderId(existingOrderId)).thenReturn(Optional.of(payment));
+
+		PaymentDTO result = service.registerPayment(existingOrderId);
+
+		Assertions.assertSame(result, payment);
+		Mockito.verify(repository, Mockito.never()).updateStatus(any(), any(), any());
+		Mockito.verify(paymentRepository, Mockito.never()).save(any());
+	}
+
+	@Test
+	public void registerPaymentShouldMoveOrderToPaidAndSavePaymentWhenOrderIsWaitingPayment() {
+
+		Mockito.when(paymentRepository.searchByOrderId(existingOrderId)).thenReturn(Optional.empty());
+		Mockito.when(repository.updateStatus(List.of(existingOrderId), List.of(OrderStatus.WAITING_PAYMENT), OrderStatus.PAID)).thenReturn(1);
+		Mockito.when(repository.getReferenceById(existingOrderId)).thenReturn(order);
+
+		PaymentDTO result = service.registerPayment(existingOrderId);
+
+		Assertions.assertEquals(result.getId(), existingOrderId);
+		Mockito.verify(paymentRepository, Mockito.times(1)).save(any());
+	}
+
+	@Test
+	public void registerPaymentShouldThrowConflictExceptionWhenOrderCannotBePaid() {
+
+		Mockito.when(paymentRepository.searchByOrderId(existingOrderId)).thenReturn(Optional.empty());
+		Mockito.when(repository.existsById(existingOrderId)).thenReturn(true);
+
+		Assertions.assertThrows(ConflictException.class, () -> {
+			service.registerPayment(existingOrderId);
+		});
+		Mockito.verify(paymentRepository, Mockito.never()).save(any());
+	}
+
+	@Test
+	public void registerPaymentShouldThrowResourceNotFoundExceptionWhenIdDoesNotExist() {
+
+		Mockito.when(paymentRepository.searchByOrderId(nonExistingOrderId)).thenReturn(Optional.empty());
+		Mockito.when(repository.existsById(nonExistingOrderId)).thenReturn(false);
+
+		Assertions.assertThrows(ResourceNotFoundException.class, () -> {
+			service.registerPayment(nonExistingOrderId);
+		});
 	}
 }
@@ -0,0 +1,117 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.devsuperior.dscommerce.dto.ProductMinDTO;
+import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.repositories.ProductRepository;
+
+@ExtendWith(SpringExtension.class)
+public class ProductNameIndexTests {
+
+	@InjectMocks
+	private ProductNameIndex index;
+
+	@Mock
+	private ProductRepository repository;
+
+	private Pageable pageable;
+
+	@BeforeEach
+	void setup() throws Exception {
+
+		ReflectionTestUtils.setField(index, "enabled", true);
+		pageable = PageRequest.of(0, 12);
+
+		ProductMinDTO macbook = new ProductMinDTO(3L, "Macbook Pro", 1250.0, "");
+		ProductMinDTO pcGamer = new ProductMinDTO(4L, "PC Gamer", 1200.0, "");
+		ProductMinDTO pcGamerEx = new ProductMinDTO(6L, "PC Gamer Ex", 1350.0, "");
+
+		Mockito.when(repository.searchAllMin()).thenReturn(List.of(pcGamerEx, macbook, pcGamer));
+	}
+
+	@Test
+	public void searchShouldReturnCaseInsensitiveSubstringMatchesOrderedById() {
+
+		Page<ProductMinDTO> result = index.search("gAmEr", pageable);
+
+		Assertions.assertEquals(2L, result.getTotalElements());
+		Assertions.assertEquals(4L, result.getContent().get(0).getId());
+		Assertions.assertEquals(6L, result.getContent().get(1).getId());
+	}
+
+	@Test
+	public void searchShouldReturnAllProductsWhenNameIsEmpty() {
+
+		Page<ProductMinDTO> result = index.search("", pageable);
+
+		Assertions.assertEquals(3L, result.getTotalElements());
+	}
+
+	@Test
+	public void searchShouldApplySortAndPageWhileKeepingTotal() {
+
+		Pageable sorted = PageRequest.of(1, 1, Sort.by("price").descending());
+
+		Page<ProductMinDTO> result = index.search("", sorted);
+
+		Assertions.assertEquals(3L, result.getTotalElements());
+		Assertions.assertEquals(1, result.getContent().size());
+		Assertions.assertEquals(3L, result.getContent().get(0).getId());
+	}
+
+	@Test
+	public void searchShouldReturnEmptyPageWhenNoTrigramMatches() {
+
+		Page<ProductMinDTO> result = index.search("Smart TV", pageable);
+
+		Assertions.assertEquals(0L, result.getTotalElements());
+	}
+
+	@Test
+	public void putAndRemoveShouldUpdateIndexOutsideTransaction() {
+
+		index.search("", pageable);
+
+		index.put(new Product(7L, "PC Gamer X", "", 1350.0, ""));
+		index.remove(4L);
+
+		Page<ProductMinDTO> result = index.search("gamer", pageable);
+
+		Assertions.assertEquals(2L, result.getTotalElements());
+		Assertions.assertEquals(6L, result.getContent().get(0).getId());
+		Assertions.assertEquals(7L, result.getContent().get(1).getId());
+	}
+
+	@Test
+	public void supportsShouldReturnFalseWhenNameHasLikeWildcardsOrSortIsUnknown() {
+
+		Assertions.assertTrue(index.supports("PC", pageable));
+		Assertions.assertFalse(index.supports("PC%", pageable));
+		Assertions.assertFalse(index.supports("PC_", pageable));
+		Assertions.assertFalse(index.supports("PC", PageRequest.of(0, 12, Sort.by("description"))));
+	}
+
+	@Test
+	public void supportsShouldReturnFalseWhenSortIgnoresCaseOrSetsNullHandling() {
+
+		Assertions.assertTrue(index.supports("PC", PageRequest.of(0, 12, Sort.by(Sort.Order.asc("name")))));
+		Assertions.assertFalse(index.supports("PC", PageRequest.of(0, 12, Sort.by(Sort.Order.asc("name").ignoreCase()))));
+		Assertions.assertFalse(index.supports("PC", PageRequest.of(0, 12, Sort.by(Sort.Order.asc("price").nullsLast()))));
+		Assertions.assertFalse(index.supports("PC", PageRequest.of(0, 12, Sort.by(Sort.Order.desc("name").nullsFirst()))));
+	}
+}
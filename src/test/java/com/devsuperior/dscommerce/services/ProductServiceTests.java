@@ -2,6 +2,7 @@ package com.devsuperior.dscommerce.services;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.times;
 
 import java.util.List;
@@ -9,24 +10,39 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import com.devsuperior.dscommerce.dto.CategoryFacetDTO;
+import com.devsuperior.dscommerce.dto.CursorPageDTO;
 import com.devsuperior.dscommerce.dto.ProductDTO;
+import com.devsuperior.dscommerce.dto.ProductFacetsDTO;
 import com.devsuperior.dscommerce.dto.ProductMinDTO;
+import com.devsuperior.dscommerce.dto.ProductSuggestionDTO;
 import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.projections.PriceBucketProjection;
 import com.devsuperior.dscommerce.repositories.ProductRepository;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
 import com.devsuperior.dscommerce.services.exceptions.DatabaseException;
 import com.devsuperior.dscommerce.services.exceptions.ResourceNotFoundException;
+import com.devsuperior.dscommerce.tests.CacheTestConfig;
 import com.devsuperior.dscommerce.tests.ProductFactory;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -40,11 +56,20 @@ public class ProductServiceTests {
 	@Mock
 	private ProductRepository repository;
 
+	@Mock
+	private ProductNameIndex nameIndex;
+
+	@Mock
+	private ProductSuggestIndex suggestIndex;
+
+	@Mock
+	private CatalogVersion catalogVersion;
+
 	private long existingId;
 	private long nonExistingId;
 	private long dependentId;
 	private Product product;
-	private PageImpl<Product> page;
+	private PageImpl<ProductMinDTO> page;
 	private ProductDTO productDTO;
 	private String productName;
 
@@ -55,8 +80,10 @@ public class ProductServiceTests {
 		nonExistingId = 1000L;
 		dependentId = 2L;
 		product = ProductFactory.createProduct();
-		page = new PageImpl<>(List.of(product));
+		page = new PageImpl<>(List.of(new ProductMinDTO(product)));
 		productName = "PS5";
+		ReflectionTestUtils.setField(service, "priceBucketWidth", 500.0);
+		ReflectionTestUtils.setField(service, "idsMaximumSize", 2);
 
 		product = ProductFactory.createProduct(productName);
 		productDTO = new ProductDTO(product);
@@ -64,9 +91,17 @@ public class ProductServiceTests {
 		Mockito.when(repository.findById(existingId)).thenReturn(Optional.of(product));
 		
 		Mockito.when(repository.findById(nonExistingId)).thenReturn(Optional.empty());
+		Mockito.when(repository.findByIdIn(any())).thenReturn(List.of(product));
 
 		
 		Mockito.when(repository.searchByName(eq(productName), any())).thenReturn(page);
+		Mockito.when(repository.searchSliceByFilter(eq(productName), any(), any(), any(), any())).thenReturn(new SliceImpl<>(List.of(new ProductMinDTO(product)), PageRequest.of(0, 1), true));
+		Mockito.when(repository.searchByFilterAfterId(eq(productName), any(), any(), any(), eq(0L), any())).thenReturn(List.of(new ProductMinDTO(product), new ProductMinDTO(product)));
+		Mockito.when(repository.searchByFilter(eq(productName), eq(1L), any(), any(), any())).thenReturn(page);
+		Mockito.when(repository.countByCategory(eq(productName), any(), any())).thenReturn(List.of(new CategoryFacetDTO(1L, "Games", 2L)));
+		Mockito.when(repository.countByPriceBucket(eq(productName), any(), eq(500.0))).thenReturn(List.of(
+				priceBucket(0L, 3L), priceBucket(2L, 1L)));
+		Mockito.when(suggestIndex.search(productName, 5)).thenReturn(List.of(new ProductSuggestionDTO(product.getId(), product.getName())));
 		Mockito.when(repository.getReferenceById(existingId)).thenReturn(product);
 		Mockito.when(repository.getReferenceById(nonExistingId)).thenThrow(EntityNotFoundException.class);
 		Mockito.when(repository.save(any())).thenReturn(product);
@@ -100,6 +135,25 @@ public class ProductServiceTests {
 		});
 	}	
 
+	@Test
+	public void findAllByIdsShouldReturnFoundProductsInRequestedOrder() {
+
+		List<ProductDTO> result = service.findAllByIds(List.of(nonExistingId, existingId, existingId));
+
+		Assertions.assertEquals(result.size(), 1);
+		Assertions.assertEquals(result.get(0).getId(), existingId);
+		Mockito.verify(repository, times(1)).findByIdIn(any());
+	}
+
+	@Test
+	public void findAllByIdsShouldThrowBadRequestExceptionWhenIdsExceedMaximum() {
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findAllByIds(List.of(1L, 2L, 3L));
+		});
+		Mockito.verify(repository, times(0)).findByIdIn(any());
+	}
+
 	@Test
 	public void findAllShouldReturnPageable() {
 
@@ -113,6 +167,129 @@ public class ProductServiceTests {
 		Assertions.assertEquals(result.iterator().next().getName(), productName);
 	}
 
+	@Test
+	public void findAllShouldUseFilterQueryWhenCategoryIsInformed() {
+
+		Pageable pageable = PageRequest.of(0, 5);
+
+		Page<ProductMinDTO> result = service.findAll(productName, 1L, null, null, pageable);
+
+		Assertions.assertEquals(result.getContent().size(), 1);
+		Mockito.verify(repository, times(1)).searchByFilter(productName, 1L, null, null, pageable);
+		Mockito.verify(repository, Mockito.never()).searchByName(any(), any());
+	}
+
+	@Test
+	public void findFacetsShouldReturnCategoryCountsAndPriceBuckets() {
+
+		ProductFacetsDTO result = service.findFacets(productName, null, null, null, null);
+
+		Assertions.assertEquals(result.getCategories().size(), 1);
+		Assertions.assertEquals(result.getCategories().get(0).getCount(), 2L);
+		Assertions.assertEquals(result.getPrices().size(), 2);
+		Assertions.assertEquals(result.getPrices().get(0).getMin(), 0.0);
+		Assertions.assertEquals(result.getPrices().get(0).getMax(), 500.0);
+		Assertions.assertEquals(result.getPrices().get(0).getCount(), 3L);
+		Assertions.assertEquals(result.getPrices().get(1).getMin(), 1000.0);
+		Assertions.assertEquals(result.getPrices().get(1).getCount(), 1L);
+	}
+
+	@Test
+	public void findFacetsShouldThrowBadRequestExceptionWhenBucketWidthIsNotPositive() {
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findFacets(productName, null, null, null, 0.0);
+		});
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findFacets(productName, null, null, null, -10.0);
+		});
+		Mockito.verify(repository, Mockito.never()).countByPriceBucket(any(), any(), any());
+	}
+
+	@Test
+	public void findSuggestionsShouldReturnSuggestionsFromIndex() {
+
+		List<ProductSuggestionDTO> result = service.findSuggestions(productName, 5);
+
+		Assertions.assertEquals(result.size(), 1);
+		Assertions.assertEquals(result.get(0).getName(), productName);
+	}
+
+	@Test
+	public void findAllSliceShouldReturnSliceWithoutTotal() {
+
+		Pageable pageable = PageRequest.of(0, 1);
+
+		Slice<ProductMinDTO> result = service.findAllSlice(productName, null, null, null, pageable);
+
+		Assertions.assertEquals(result.getContent().size(), 1);
+		Assertions.assertTrue(result.hasNext());
+		Mockito.verify(repository, times(0)).searchByName(any(), any());
+	}
+
+	@Test
+	public void findAllByCursorShouldReturnNextCursorWhenThereAreMoreResults() {
+
+		Pageable pageable = PageRequest.of(0, 1);
+
+		CursorPageDTO<ProductMinDTO> result = service.findAllByCursor(productName, null, null, null, "", pageable);
+
+		Assertions.assertEquals(result.getContent().size(), 1);
+		Assertions.assertEquals(result.getContent().get(0).getName(), productName);
+		Assertions.assertNotNull(result.getNext());
+	}
+
+	@Test
+	public void findAllByCursorShouldThrowBadRequestExceptionWhenCursorIsInvalid() {
+
+		Pageable pageable = PageRequest.of(0, 1);
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findAllByCursor(productName, null, null, null, "xpto", pageable);
+		});
+	}
+
+	@Test
+	public void findAllSliceShouldApplyFiltersWhenInformed() {
+
+		Pageable pageable = PageRequest.of(0, 1);
+
+		service.findAllSlice(productName, 1L, 100.0, null, pageable);
+
+		Mockito.verify(repository).searchSliceByFilter(productName, 1L, 100.0, null, pageable);
+		Mockito.verify(nameIndex, times(0)).search(any(), any());
+	}
+
+	@Test
+	public void findAllByCursorShouldApplyFiltersWhenInformed() {
+
+		Pageable pageable = PageRequest.of(0, 1);
+
+		service.findAllByCursor(productName, 1L, 100.0, 2000.0, "", pageable);
+
+		Mockito.verify(repository).searchByFilterAfterId(eq(productName), eq(1L), eq(100.0), eq(2000.0), eq(0L), any());
+	}
+
+	@Test
+	public void findAllByCursorShouldResumeFromProductWithNullPrice() {
+
+		Pageable pageable = PageRequest.of(0, 1, Sort.by("price"));
+		ProductMinDTO first = new ProductMinDTO(7L, productName, null, null);
+		ProductMinDTO second = new ProductMinDTO(8L, productName, null, null);
+		Mockito.when(repository.searchByFilterAfterPrice(eq(productName), any(), any(), any(), isNull(), eq(0L), any())).thenReturn(List.of(first, second));
+		Mockito.when(repository.searchByFilterAfterPrice(eq(productName), any(), any(), any(), isNull(), eq(7L), any())).thenReturn(List.of(second));
+
+		CursorPageDTO<ProductMinDTO> result = service.findAllByCursor(productName, null, null, null, "", pageable);
+
+		Assertions.assertEquals(result.getContent().get(0).getId(), 7L);
+		Assertions.assertNotNull(result.getNext());
+
+		CursorPageDTO<ProductMinDTO> next = service.findAllByCursor(productName, null, null, null, result.getNext(), pageable);
+
+		Assertions.assertEquals(next.getContent().get(0).getId(), 8L);
+		Assertions.assertNull(next.getNext());
+	}
+
 	@Test
 	public void updateShouldProductDTOWhenExistingId() {
 
@@ -175,4 +352,76 @@ public class ProductServiceTests {
 		Assertions.assertNotNull(result);
 		Assertions.assertEquals(productDTO.getId(), existingId);
 	}
+
+	@Nested
+	@ContextConfiguration(classes = CacheTestConfig.class)
+	class ProductCache {
+
+		@Autowired
+		private ProductService cachedService;
+
+		@Autowired
+		private ProductRepository cachedRepository;
+
+		@Autowired
+		private CacheManager cacheManager;
+
+		@BeforeEach
+		void setup() throws Exception {
+
+			Mockito.reset(cachedRepository);
+			cacheManager.getCache("products").clear();
+			Mockito.when(cachedRepository.findById(existingId)).thenReturn(Optional.of(product));
+			Mockito.when(cachedRepository.getReferenceById(existingId)).thenReturn(product);
+			Mockito.when(cachedRepository.save(any())).thenReturn(product);
+			Mockito.when(cachedRepository.existsById(existingId)).thenReturn(true);
+		}
+
+		@Test
+		public void findByIdShouldReturnCachedProductWhenCalledAgain() {
+
+			ProductDTO first = cachedService.findById(existingId);
+			ProductDTO second = cachedService.findById(existingId);
+
+			Assertions.assertSame(first, second);
+			Mockito.verify(cachedRepository, times(1)).findById(existingId);
+		}
+
+		@Test
+		public void updateShouldEvictCachedProduct() {
+
+			cachedService.findById(existingId);
+
+			cachedService.update(existingId, productDTO);
+			cachedService.findById(existingId);
+
+			Mockito.verify(cachedRepository, times(2)).findById(existingId);
+		}
+
+		@Test
+		public void deleteShouldEvictCachedProduct() {
+
+			cachedService.findById(existingId);
+
+			cachedService.delete(existingId);
+			cachedService.findById(existingId);
+
+			Mockito.verify(cachedRepository, times(2)).findById(existingId);
+		}
+	}
+
+	private static PriceBucketProjection priceBucket(Long bucket, Long productCount) {
+		return new PriceBucketProjection() {
+
+			@Override
+			public Long getBucket() {
+				return bucket;
+			}
+
+			@Override
+			public Long getProductCount() {
+				return productCount;
+			}
+		};
+	}
 }
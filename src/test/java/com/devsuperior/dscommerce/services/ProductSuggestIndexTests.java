@@ -0,0 +1,97 @@
+package com.devsuperior.dscommerce.services;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.devsuperior.dscommerce.dto.ProductMinDTO;
+import com.devsuperior.dscommerce.dto.ProductSuggestionDTO;
+import com.devsuperior.dscommerce.entities.Product;
+import com.devsuperior.dscommerce.repositories.ProductRepository;
+
+@ExtendWith(SpringExtension.class)
+public class ProductSuggestIndexTests {
+
+	@InjectMocks
+	private ProductSuggestIndex index;
+
+	@Mock
+	private ProductRepository repository;
+
+	@BeforeEach
+	void setup() throws Exception {
+
+		ProductMinDTO macbook = new ProductMinDTO(3L, "Macbook Pro", 1250.0, "");
+		ProductMinDTO pcGamer = new ProductMinDTO(4L, "PC Gamer", 1200.0, "");
+		ProductMinDTO pcGamerEx = new ProductMinDTO(6L, "PC Gamer Ex", 1350.0, "");
+
+		Mockito.when(repository.searchAllMin()).thenReturn(List.of(pcGamerEx, macbook, pcGamer));
+	}
+
+	@Test
+	public void searchShouldReturnCaseInsensitivePrefixMatchesInAlphabeticalOrder() {
+
+		List<ProductSuggestionDTO> result = index.search("pc g", 10);
+
+		Assertions.assertEquals(2, result.size());
+		Assertions.assertEquals(4L, result.get(0).getId());
+		Assertions.assertEquals(6L, result.get(1).getId());
+	}
+
+	@Test
+	public void searchShouldRespectLimitAndLoadOnlyOnce() {
+
+		List<ProductSuggestionDTO> result = index.search("", 1);
+		index.search("mac", 1);
+
+		Assertions.assertEquals(1, result.size());
+		Assertions.assertEquals(3L, result.get(0).getId());
+		Mockito.verify(repository, Mockito.times(1)).searchAllMin();
+	}
+
+	@Test
+	public void searchShouldReturnEmptyListWhenNoNameStartsWithPrefix() {
+
+		List<ProductSuggestionDTO> result = index.search("Gamer", 10);
+
+		Assertions.assertTrue(result.isEmpty());
+	}
+
+	@Test
+	public void putAndRemoveShouldUpdateIndexOutsideTransaction() {
+
+		index.search("", 10);
+
+		index.put(new Product(3L, "PC Gamer Pro", "", 1250.0, ""));
+		index.remove(4L);
+
+		List<ProductSuggestionDTO> result = index.search("PC", 10);
+
+		Assertions.assertEquals(2, result.size());
+		Assertions.assertEquals(6L, result.get(0).getId());
+		Assertions.assertEquals(3L, result.get(1).getId());
+		Assertions.assertTrue(index.search("mac", 10).isEmpty());
+	}
+
+	@Test
+	public void putShouldKeepEntriesSortedWhenInsertingAtEitherEnd() {
+
+		index.search("", 10);
+
+		index.put(new Product(7L, "Aaa Mouse", "", 50.0, ""));
+		index.put(new Product(8L, "Zzz Monitor", "", 900.0, ""));
+		index.put(new Product(4L, "PC Gamer", "", 1200.0, ""));
+
+		List<ProductSuggestionDTO> result = index.search("", 10);
+
+		Assertions.assertEquals(5, result.size());
+		Assertions.assertEquals(List.of(7L, 3L, 4L, 6L, 8L), result.stream().map(ProductSuggestionDTO::getId).toList());
+	}
+}
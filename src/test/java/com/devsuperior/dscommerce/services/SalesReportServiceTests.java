@@ -0,0 +1,124 @@
+package com.devsuperior.dscommerce.services;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.devsuperior.dscommerce.entities.Order;
+import com.devsuperior.dscommerce.entities.OrderStatus;
+import com.devsuperior.dscommerce.entities.User;
+import com.devsuperior.dscommerce.repositories.CategorySalesRepository;
+import com.devsuperior.dscommerce.repositories.ProductSalesRepository;
+import com.devsuperior.dscommerce.services.exceptions.BadRequestException;
+import com.devsuperior.dscommerce.tests.OrderFactory;
+import com.devsuperior.dscommerce.tests.UserFactory;
+
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(SpringExtension.class)
+public class SalesReportServiceTests {
+
+	@InjectMocks
+	private SalesReportService service;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private ProductSalesRepository productSalesRepository;
+
+	@Mock
+	private CategorySalesRepository categorySalesRepository;
+
+	private Order order;
+
+	@BeforeEach
+	void setUp() throws Exception {
+
+		User client = UserFactory.createClientUser();
+		order = OrderFactory.createOrder(client);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void recordInsertedShouldFlushAndUpsertProductAndCategoryRowsOfEachOrder() {
+
+		service.recordInserted(List.of(order));
+
+		ArgumentCaptor<List<Object[]>> products = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<List<Object[]>> categories = ArgumentCaptor.forClass(List.class);
+		InOrder inOrder = Mockito.inOrder(entityManager, jdbcTemplate);
+		inOrder.verify(entityManager).flush();
+		inOrder.verify(jdbcTemplate).batchUpdate(contains("tb_product_sales"), products.capture());
+		inOrder.verify(jdbcTemplate).batchUpdate(contains("tb_product_category"), categories.capture());
+
+		Assertions.assertEquals(products.getValue().size(), 1);
+		Assertions.assertEquals(products.getValue().get(0)[1], 1);
+		Assertions.assertEquals(products.getValue().get(0)[4], order.getId());
+		Assertions.assertArrayEquals(products.getValue().get(0), categories.getValue().get(0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void recordStatusChangeShouldSubtractOrderWhenCanceled() {
+
+		order.setStatus(OrderStatus.CANCELED);
+
+		service.recordStatusChange(order, OrderStatus.PAID);
+
+		ArgumentCaptor<List<Object[]>> categories = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(jdbcTemplate).batchUpdate(contains("tb_category_sales"), categories.capture());
+		Assertions.assertEquals(categories.getValue().get(0)[1], -1);
+		Assertions.assertEquals(categories.getValue().get(0)[2], -1);
+		Assertions.assertEquals(categories.getValue().get(0)[3], -1);
+	}
+
+	@Test
+	public void recordInsertedShouldDoNothingWhenAllOrdersAreCanceled() {
+
+		order.setStatus(OrderStatus.CANCELED);
+
+		service.recordInserted(List.of(order));
+
+		Mockito.verify(entityManager, Mockito.never()).flush();
+		Mockito.verify(jdbcTemplate, Mockito.never()).batchUpdate(anyString(), anyList());
+	}
+
+	@Test
+	public void recordStatusChangeShouldDoNothingWhenOrderStillCounts() {
+
+		order.setStatus(OrderStatus.SHIPPED);
+
+		service.recordStatusChange(order, OrderStatus.PAID);
+
+		Mockito.verify(jdbcTemplate, Mockito.never()).batchUpdate(anyString(), anyList());
+	}
+
+	@Test
+	public void findByProductShouldThrowBadRequestExceptionWhenStartIsAfterEnd() {
+
+		Assertions.assertThrows(BadRequestException.class, () -> {
+			service.findByProduct(LocalDate.parse("2022-08-01"), LocalDate.parse("2022-07-01"));
+		});
+		Mockito.verify(productSalesRepository, Mockito.never()).sumByProduct(any(), any());
+	}
+}
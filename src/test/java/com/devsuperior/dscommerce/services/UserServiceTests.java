@@ -1,27 +1,34 @@
 package com.devsuperior.dscommerce.services;
 
+import static org.mockito.ArgumentMatchers.any;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.devsuperior.dscommerce.dto.UserDTO;
 import com.devsuperior.dscommerce.entities.User;
 import com.devsuperior.dscommerce.projections.UserDetailsProjection;
 import com.devsuperior.dscommerce.repositories.UserRepository;
+import com.devsuperior.dscommerce.tests.CacheTestConfig;
 import com.devsuperior.dscommerce.tests.UserDetailsFactory;
 import com.devsuperior.dscommerce.tests.UserFactory;
 import com.devsuperior.dscommerce.utils.CustomUserUtil;
+import com.devsuperior.dscommerce.utils.UserPrincipal;
 
 @ExtendWith(SpringExtension.class)
 public class UserServiceTests {
@@ -67,6 +74,10 @@ public class UserServiceTests {
 
 		Assertions.assertNotNull(result);
 		Assertions.assertEquals(result.getUsername(), existingUsername);
+		Assertions.assertEquals(((UserPrincipal) result).getId(), 1L);
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> {
+			result.getAuthorities().clear();
+		});
 	}
 
 	@Test
@@ -99,6 +110,29 @@ public class UserServiceTests {
 		});
 	}
 
+	@Test
+	public void authenticatedReferenceShouldReturnReferenceToUserIdFromTokenClaims() {
+
+		Mockito.when(customUserUtil.getLoggedUser()).thenReturn(UserFactory.createLoggedUser(user));
+		Mockito.when(repository.getReferenceById(user.getId())).thenReturn(user);
+
+		User result = service.authenticatedReference();
+
+		Assertions.assertSame(result, user);
+		Mockito.verify(repository).getReferenceById(user.getId());
+		Mockito.verify(repository, Mockito.never()).findByEmail(any());
+	}
+
+	@Test
+	public void loggedUserShouldThrowUsernameNotFoundExceptionWhenTokenHasNoUserId() {
+
+		Mockito.doThrow(NullPointerException.class).when(customUserUtil).getLoggedUser();
+
+		Assertions.assertThrows(UsernameNotFoundException.class, () -> {
+			service.loggedUser();
+		});
+	}
+
 	@Test
 	public void getMeShouldReturnUserDTOWhenUserAuthenticated() {
 			
@@ -122,4 +156,47 @@ public class UserServiceTests {
 			UserDTO result = spyService.getMe();
 		});
 	}
+
+	@Nested
+	@ContextConfiguration(classes = CacheTestConfig.class)
+	class UserDetailsCache {
+
+		@Autowired
+		private UserService cachedService;
+
+		@Autowired
+		private UserRepository cachedRepository;
+
+		@Autowired
+		private UserCacheListener listener;
+
+		@BeforeEach
+		void setup() throws Exception {
+
+			Mockito.reset(cachedRepository);
+			cachedService.evictAllUserDetails();
+			Mockito.when(cachedRepository.searchUserAndRolesByEmail(existingUsername)).thenReturn(userDeatils);
+		}
+
+		@Test
+		public void loadUserByUsernameShouldReturnCachedUserDetailsWhenCalledAgain() {
+
+			UserDetails first = cachedService.loadUserByUsername(existingUsername);
+			UserDetails second = cachedService.loadUserByUsername(existingUsername);
+
+			Assertions.assertSame(first, second);
+			Mockito.verify(cachedRepository, Mockito.times(1)).searchUserAndRolesByEmail(existingUsername);
+		}
+
+		@Test
+		public void loadUserByUsernameShouldQueryAgainWhenUserChanges() {
+
+			cachedService.loadUserByUsername(existingUsername);
+
+			listener.userChanged(user);
+			cachedService.loadUserByUsername(existingUsername);
+
+			Mockito.verify(cachedRepository, Mockito.times(2)).searchUserAndRolesByEmail(existingUsername);
+		}
+	}
 }
@@ -0,0 +1,73 @@
+package com.devsuperior.dscommerce.tests;
+
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+
+import com.devsuperior.dscommerce.repositories.ProductRepository;
+import com.devsuperior.dscommerce.repositories.UserRepository;
+import com.devsuperior.dscommerce.services.CatalogVersion;
+import com.devsuperior.dscommerce.services.ProductNameIndex;
+import com.devsuperior.dscommerce.services.ProductService;
+import com.devsuperior.dscommerce.services.ProductSuggestIndex;
+import com.devsuperior.dscommerce.services.UserCacheListener;
+import com.devsuperior.dscommerce.services.UserService;
+import com.devsuperior.dscommerce.utils.CustomUserUtil;
+
+@TestConfiguration
+@EnableCaching(proxyTargetClass = true)
+public class CacheTestConfig {
+
+	@Bean
+	public CacheManager cacheManager() {
+		return new ConcurrentMapCacheManager("products", "users");
+	}
+
+	@Bean
+	public ProductService productService() {
+		return new ProductService();
+	}
+
+	@Bean
+	public UserService userService() {
+		return new UserService();
+	}
+
+	@Bean
+	public UserCacheListener userCacheListener() {
+		return new UserCacheListener();
+	}
+
+	@Bean
+	public ProductRepository productRepository() {
+		return Mockito.mock(ProductRepository.class);
+	}
+
+	@Bean
+	public UserRepository userRepository() {
+		return Mockito.mock(UserRepository.class);
+	}
+
+	@Bean
+	public ProductNameIndex productNameIndex() {
+		return Mockito.mock(ProductNameIndex.class);
+	}
+
+	@Bean
+	public ProductSuggestIndex productSuggestIndex() {
+		return Mockito.mock(ProductSuggestIndex.class);
+	}
+
+	@Bean
+	public CatalogVersion catalogVersion() {
+		return Mockito.mock(CatalogVersion.class);
+	}
+
+	@Bean
+	public CustomUserUtil customUserUtil() {
+		return Mockito.mock(CustomUserUtil.class);
+	}
+}
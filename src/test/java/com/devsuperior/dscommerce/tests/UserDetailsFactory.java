@@ -10,22 +10,22 @@ public class UserDetailsFactory {
 	public static List<UserDetailsProjection> createCustomClientUser(String name) {
 
 		List<UserDetailsProjection> list = new ArrayList<>();
-		list.add(new UserDetailsImpl(name, "123", 1L, "ROLE_CLIENT"));
+		list.add(new UserDetailsImpl(1L, "Maria", name, "123", 1L, "ROLE_CLIENT"));
 		return list;
 	}
 
 	public static List<UserDetailsProjection> createCustomAdminUser(String name) {
 
 		List<UserDetailsProjection> list = new ArrayList<>();
-		list.add(new UserDetailsImpl(name, "123", 2L, "ROLE_ADMIN"));
+		list.add(new UserDetailsImpl(1L, "Maria", name, "123", 2L, "ROLE_ADMIN"));
 		return list;
 	}
 	
 	public static List<UserDetailsProjection> createCustomAdminClientUser(String name) {
 
 		List<UserDetailsProjection> list = new ArrayList<>();
-		list.add(new UserDetailsImpl(name, "123", 2L, "ROLE_ADMIN"));
-		list.add(new UserDetailsImpl(name, "123", 1L, "ROLE_CLIENT"));
+		list.add(new UserDetailsImpl(1L, "Maria", name, "123", 2L, "ROLE_ADMIN"));
+		list.add(new UserDetailsImpl(1L, "Maria", name, "123", 1L, "ROLE_CLIENT"));
 		return list;
 	}
 
@@ -33,6 +33,8 @@ public class UserDetailsFactory {
 
 class UserDetailsImpl implements UserDetailsProjection {
 
+	private Long userId;
+	private String name;
 	private String username;
 	private String password;
 	private Long roleId;
@@ -41,13 +43,25 @@ class UserDetailsImpl implements UserDetailsProjection {
 	public UserDetailsImpl() {
 	}
 
-	public UserDetailsImpl(String username, String password, Long roleId, String authority) {
+	public UserDetailsImpl(Long userId, String name, String username, String password, Long roleId, String authority) {
+		this.userId = userId;
+		this.name = name;
 		this.username = username;
 		this.password = password;
 		this.roleId = roleId;
 		this.authority = authority;
 	}
 
+	@Override
+	public Long getUserId() {
+		return userId;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
 	@Override
 	public String getUsername() {
 		return username;
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import com.devsuperior.dscommerce.entities.Role;
 import com.devsuperior.dscommerce.entities.User;
+import com.devsuperior.dscommerce.utils.LoggedUser;
 
 public class UserFactory {
 	
@@ -32,4 +33,8 @@ public class UserFactory {
 				return user;
 	}
 
+	public static LoggedUser createLoggedUser(User user) {
+		return new LoggedUser(user.getId(), user.getEmail(), user.getName(),
+				user.getAuthorities().stream().map(x -> x.getAuthority()).toList());
+	}
 }
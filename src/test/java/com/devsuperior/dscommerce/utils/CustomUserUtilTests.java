@@ -0,0 +1,59 @@
+package com.devsuperior.dscommerce.utils;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+public class CustomUserUtilTests {
+
+	private CustomUserUtil customUserUtil;
+
+	@BeforeEach
+	void setup() throws Exception {
+		customUserUtil = new CustomUserUtil();
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	public void getLoggedUserShouldReturnClaimsWhenTokenHasUserId() {
+
+		authenticate(Jwt.withTokenValue("token").header("alg", "RS256")
+				.claim("userId", 1L)
+				.claim("username", "maria@gmail.com")
+				.claim("name", "Maria Brown")
+				.claim("authorities", List.of("ROLE_CLIENT")));
+
+		LoggedUser result = customUserUtil.getLoggedUser();
+
+		Assertions.assertEquals(result.getId(), 1L);
+		Assertions.assertEquals(result.getName(), "Maria Brown");
+		Assertions.assertTrue(result.hasRole("ROLE_CLIENT"));
+	}
+
+	@Test
+	public void getLoggedUserShouldThrowInvalidBearerTokenExceptionWhenTokenHasNoUserId() {
+
+		authenticate(Jwt.withTokenValue("token").header("alg", "RS256")
+				.claim("username", "maria@gmail.com")
+				.claim("authorities", List.of("ROLE_CLIENT")));
+
+		Assertions.assertThrows(InvalidBearerTokenException.class, () -> {
+			customUserUtil.getLoggedUser();
+		});
+	}
+
+	private void authenticate(Jwt.Builder builder) {
+		SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(builder.build()));
+	}
+}